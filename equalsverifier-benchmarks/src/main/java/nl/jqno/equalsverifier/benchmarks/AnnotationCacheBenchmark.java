@@ -0,0 +1,62 @@
+package nl.jqno.equalsverifier.benchmarks;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import nl.jqno.equalsverifier.benchmarks.types.JpaEntity;
+import nl.jqno.equalsverifier.benchmarks.types.SmallValue;
+import nl.jqno.equalsverifier.internal.reflection.annotations.AnnotationCache;
+import nl.jqno.equalsverifier.internal.reflection.annotations.AnnotationCacheBuilder;
+import nl.jqno.equalsverifier.internal.reflection.annotations.SupportedAnnotations;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures scanning a class for annotations, for a class with JPA annotations and for a class
+ * without any, by reading class files and through reflection.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AnnotationCacheBenchmark {
+
+    @Param({ "false", "true" })
+    private boolean reflective;
+
+    private AnnotationCacheBuilder builder;
+
+    @Setup
+    public void setUp() {
+        builder =
+            new AnnotationCacheBuilder(
+                SupportedAnnotations.values(),
+                Collections.emptySet(),
+                reflective
+            );
+    }
+
+    @Benchmark
+    public AnnotationCache jpaEntity() {
+        AnnotationCache cache = new AnnotationCache();
+        builder.build(JpaEntity.class, cache);
+        return cache;
+    }
+
+    @Benchmark
+    public AnnotationCache unannotatedClass() {
+        AnnotationCache cache = new AnnotationCache();
+        builder.build(SmallValue.class, cache);
+        return cache;
+    }
+}
@@ -0,0 +1,37 @@
+package nl.jqno.equalsverifier.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import nl.jqno.equalsverifier.EqualsVerifier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@code EqualsVerifier.forPackage(...).verify()} on a package of simple value types,
+ * including scanning the package.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ForPackageBenchmark {
+
+    private static final String CORPUS_PACKAGE = "nl.jqno.equalsverifier.benchmarks.corpus";
+
+    @Param({ "1", "4" })
+    private int parallelism;
+
+    @Benchmark
+    public void forPackage() {
+        EqualsVerifier.forPackage(CORPUS_PACKAGE).withParallelism(parallelism).verify();
+    }
+}
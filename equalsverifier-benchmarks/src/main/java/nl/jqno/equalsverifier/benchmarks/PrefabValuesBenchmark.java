@@ -0,0 +1,52 @@
+package nl.jqno.equalsverifier.benchmarks;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import nl.jqno.equalsverifier.internal.prefabvalues.FactoryCache;
+import nl.jqno.equalsverifier.internal.prefabvalues.JavaApiPrefabValues;
+import nl.jqno.equalsverifier.internal.prefabvalues.PrefabValues;
+import nl.jqno.equalsverifier.internal.prefabvalues.Tuple;
+import nl.jqno.equalsverifier.internal.prefabvalues.TypeTag;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Measures building the built-in prefab values, and creating values for nested generic types. */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PrefabValuesBenchmark {
+
+    /** {@code Map<String, List<Optional<Set<Integer>>>>} */
+    private static final TypeTag NESTED_GENERICS = new TypeTag(
+        Map.class,
+        new TypeTag(String.class),
+        new TypeTag(
+            List.class,
+            new TypeTag(Optional.class, new TypeTag(Set.class, new TypeTag(Integer.class)))
+        )
+    );
+
+    @Benchmark
+    public FactoryCache buildJavaApiPrefabValues() {
+        return JavaApiPrefabValues.build();
+    }
+
+    /*
+     * A fresh PrefabValues has an empty cache of values, like at the start of a verification, so
+     * every level of nesting has to be created.
+     */
+    @Benchmark
+    public Tuple<Object> giveTupleForNestedGenerics() {
+        return new PrefabValues(JavaApiPrefabValues.frozen()).giveTuple(NESTED_GENERICS);
+    }
+}
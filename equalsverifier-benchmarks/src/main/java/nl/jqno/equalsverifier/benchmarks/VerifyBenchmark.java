@@ -0,0 +1,57 @@
+package nl.jqno.equalsverifier.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import nl.jqno.equalsverifier.EqualsVerifier;
+import nl.jqno.equalsverifier.benchmarks.types.DeepHierarchy;
+import nl.jqno.equalsverifier.benchmarks.types.GenericContainer;
+import nl.jqno.equalsverifier.benchmarks.types.JpaEntity;
+import nl.jqno.equalsverifier.benchmarks.types.SmallValue;
+import nl.jqno.equalsverifier.benchmarks.types.WideDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@code EqualsVerifier.forClass(...).verify()} for the kinds of classes it's typically
+ * used on.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VerifyBenchmark {
+
+    @Benchmark
+    public void smallValue() {
+        EqualsVerifier.forClass(SmallValue.class).verify();
+    }
+
+    @Benchmark
+    public void wideDto() {
+        EqualsVerifier.forClass(WideDto.class).verify();
+    }
+
+    @Benchmark
+    public void deepHierarchy() {
+        EqualsVerifier
+            .forClass(DeepHierarchy.Level5.class)
+            .usingGetClass()
+            .withRedefinedSuperclass()
+            .verify();
+    }
+
+    @Benchmark
+    public void genericContainer() {
+        EqualsVerifier.forClass(GenericContainer.class).verify();
+    }
+
+    @Benchmark
+    public void jpaEntity() {
+        EqualsVerifier.forClass(JpaEntity.class).verify();
+    }
+}
@@ -0,0 +1,35 @@
+package nl.jqno.equalsverifier.benchmarks.corpus;
+
+import java.util.List;
+import java.util.Objects;
+
+public final class Value02 {
+
+    private final String name;
+    private final List<Integer> values;
+    private final boolean active;
+
+    public Value02(String name, List<Integer> values, boolean active) {
+        this.name = name;
+        this.values = values;
+        this.active = active;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (!(obj instanceof Value02)) {
+            return false;
+        }
+        Value02 other = (Value02) obj;
+        return (
+            Objects.equals(name, other.name) &&
+            Objects.equals(values, other.values) &&
+            active == other.active
+        );
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name, values, active);
+    }
+}
@@ -0,0 +1,30 @@
+package nl.jqno.equalsverifier.benchmarks.corpus;
+
+import java.util.Objects;
+
+public final class Value05 {
+
+    private final int x;
+    private final String label;
+    private final long count;
+
+    public Value05(int x, String label, long count) {
+        this.x = x;
+        this.label = label;
+        this.count = count;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (!(obj instanceof Value05)) {
+            return false;
+        }
+        Value05 other = (Value05) obj;
+        return x == other.x && Objects.equals(label, other.label) && count == other.count;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(x, label, count);
+    }
+}
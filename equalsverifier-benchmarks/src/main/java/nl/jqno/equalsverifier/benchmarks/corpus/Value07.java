@@ -0,0 +1,35 @@
+package nl.jqno.equalsverifier.benchmarks.corpus;
+
+import java.time.LocalDate;
+import java.util.Objects;
+
+public final class Value07 {
+
+    private final double weight;
+    private final char code;
+    private final LocalDate date;
+
+    public Value07(double weight, char code, LocalDate date) {
+        this.weight = weight;
+        this.code = code;
+        this.date = date;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (!(obj instanceof Value07)) {
+            return false;
+        }
+        Value07 other = (Value07) obj;
+        return (
+            Double.compare(weight, other.weight) == 0 &&
+            code == other.code &&
+            Objects.equals(date, other.date)
+        );
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(weight, code, date);
+    }
+}
@@ -0,0 +1,35 @@
+package nl.jqno.equalsverifier.benchmarks.corpus;
+
+import java.util.Map;
+import java.util.Objects;
+
+public final class Value12 {
+
+    private final Map<String, String> attributes;
+    private final short rank;
+    private final String owner;
+
+    public Value12(Map<String, String> attributes, short rank, String owner) {
+        this.attributes = attributes;
+        this.rank = rank;
+        this.owner = owner;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (!(obj instanceof Value12)) {
+            return false;
+        }
+        Value12 other = (Value12) obj;
+        return (
+            Objects.equals(attributes, other.attributes) &&
+            rank == other.rank &&
+            Objects.equals(owner, other.owner)
+        );
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(attributes, rank, owner);
+    }
+}
@@ -0,0 +1,5 @@
+/**
+ * A synthetic package of simple value types, for benchmarking {@code EqualsVerifier.forPackage}.
+ * Nothing else should be put in this package.
+ */
+package nl.jqno.equalsverifier.benchmarks.corpus;
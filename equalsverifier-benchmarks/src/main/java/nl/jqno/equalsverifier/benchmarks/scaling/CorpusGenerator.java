@@ -0,0 +1,152 @@
+package nl.jqno.equalsverifier.benchmarks.scaling;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.description.modifier.FieldManifestation;
+import net.bytebuddy.description.modifier.Visibility;
+import net.bytebuddy.description.type.TypeDefinition;
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.dynamic.DynamicType;
+import net.bytebuddy.dynamic.loading.ByteArrayClassLoader;
+import net.bytebuddy.implementation.EqualsMethod;
+import net.bytebuddy.implementation.HashCodeMethod;
+import net.bytebuddy.matcher.ElementMatchers;
+
+/**
+ * Generates a corpus of classes with correct {@code equals} and {@code hashCode} methods, to see
+ * how EqualsVerifier scales with the number of classes it verifies.
+ *
+ * <p>Every class in the corpus is the leaf of its own hierarchy of {@code hierarchyDepth} classes.
+ * Each class in a hierarchy declares {@code fieldCount} fields, and an {@code equals} that uses
+ * {@code getClass()} and calls {@code super.equals} if it has a superclass. Verify the corpus with
+ * {@code usingGetClass()}.
+ *
+ * <p>The fields cycle through {@code int}, {@code long}, {@code boolean}, {@code String} and a
+ * generic type: {@code List<String>} nested {@code genericNesting} times, or {@code String} if
+ * {@code genericNesting} is 0. There are no {@code float} or {@code double} fields, because Byte
+ * Buddy compares those with {@code ==}, which EqualsVerifier rejects.
+ *
+ * <p>All classes of a corpus are defined in a single ClassLoader, which becomes unreachable
+ * together with the corpus. Every corpus gets its own class names, because EqualsVerifier caches
+ * some of what it generates for a class by the name of that class.
+ */
+public final class CorpusGenerator {
+
+    private static final String PACKAGE = "nl.jqno.equalsverifier.benchmarks.scaling.generated";
+    private static final AtomicInteger CORPUS_COUNTER = new AtomicInteger();
+
+    private final int fieldCount;
+    private final int hierarchyDepth;
+    private final int genericNesting;
+    private final ByteBuddy byteBuddy = new ByteBuddy();
+
+    /**
+     * Constructor.
+     *
+     * @param fieldCount The number of fields that each class in a hierarchy declares.
+     * @param hierarchyDepth The number of classes in each hierarchy, including the leaf.
+     * @param genericNesting How deeply the generic fields are nested.
+     */
+    public CorpusGenerator(int fieldCount, int hierarchyDepth, int genericNesting) {
+        if (fieldCount < 1 || hierarchyDepth < 1 || genericNesting < 0) {
+            throw new IllegalArgumentException(
+                "fieldCount and hierarchyDepth must be at least 1, genericNesting at least 0."
+            );
+        }
+        this.fieldCount = fieldCount;
+        this.hierarchyDepth = hierarchyDepth;
+        this.genericNesting = genericNesting;
+    }
+
+    /**
+     * Generates a corpus.
+     *
+     * @param classCount The number of leaf classes in the corpus.
+     * @return The leaf classes of the corpus.
+     */
+    public List<Class<?>> generate(int classCount) {
+        Map<String, byte[]> definitions = new LinkedHashMap<>();
+        List<String> leaves = new ArrayList<>();
+        String prefix = PACKAGE + ".Corpus" + CORPUS_COUNTER.incrementAndGet() + "_Generated";
+        for (int i = 0; i < classCount; i++) {
+            TypeDefinition superclass = TypeDescription.OBJECT;
+            for (int level = 0; level < hierarchyDepth; level++) {
+                String name = prefix + i + "_" + level;
+                DynamicType.Unloaded<?> type = generate(name, superclass, level);
+                definitions.put(name, type.getBytes());
+                superclass = type.getTypeDescription();
+            }
+            leaves.add(superclass.getTypeName());
+        }
+
+        ClassLoader loader = new ByteArrayClassLoader(
+            CorpusGenerator.class.getClassLoader(),
+            definitions
+        );
+        List<Class<?>> result = new ArrayList<>(classCount);
+        for (String leaf : leaves) {
+            try {
+                result.add(loader.loadClass(leaf));
+            } catch (ClassNotFoundException e) {
+                throw new IllegalStateException("Generated class " + leaf + " not found", e);
+            }
+        }
+        return result;
+    }
+
+    private DynamicType.Unloaded<?> generate(String name, TypeDefinition superclass, int level) {
+        DynamicType.Builder<?> builder = byteBuddy.subclass(superclass).name(name);
+        for (int i = 0; i < fieldCount; i++) {
+            builder =
+                builder.defineField(
+                    "field" + level + "_" + i,
+                    fieldType(i),
+                    Visibility.PRIVATE,
+                    FieldManifestation.FINAL
+                );
+        }
+        boolean isRoot = level == 0;
+        EqualsMethod equals = isRoot
+            ? EqualsMethod.isolated()
+            : EqualsMethod.requiringSuperClassEquality();
+        HashCodeMethod hashCode = isRoot
+            ? HashCodeMethod.usingDefaultOffset()
+            : HashCodeMethod.usingSuperClassOffset();
+        return builder
+            .method(ElementMatchers.isEquals())
+            .intercept(equals)
+            .method(ElementMatchers.isHashCode())
+            .intercept(hashCode)
+            .make();
+    }
+
+    private TypeDefinition fieldType(int index) {
+        switch (index % 5) {
+            case 0:
+                return TypeDescription.ForLoadedType.of(int.class);
+            case 1:
+                return TypeDescription.ForLoadedType.of(long.class);
+            case 2:
+                return TypeDescription.ForLoadedType.of(boolean.class);
+            case 3:
+                return TypeDescription.STRING;
+            default:
+                return genericType();
+        }
+    }
+
+    private TypeDefinition genericType() {
+        TypeDescription.Generic result = TypeDescription.STRING.asGenericType();
+        for (int i = 0; i < genericNesting; i++) {
+            result = TypeDescription.Generic.Builder.parameterizedType(
+                TypeDescription.ForLoadedType.of(List.class),
+                result
+            ).build();
+        }
+        return result;
+    }
+}
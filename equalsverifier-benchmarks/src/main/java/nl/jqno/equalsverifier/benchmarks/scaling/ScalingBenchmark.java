@@ -0,0 +1,64 @@
+package nl.jqno.equalsverifier.benchmarks.scaling;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import nl.jqno.equalsverifier.EqualsVerifier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@code EqualsVerifier.forClasses(...).verify()} on corpora of generated classes of
+ * increasing size. Divide the score by {@code classCount} to get the cost per class; it should stay
+ * flat as the corpus grows. Run with {@code -prof gc} to see the allocation rate, or use {@link
+ * ScalingHarness} to see the allocations and the peak heap usage per corpus.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ScalingBenchmark {
+
+    @Param({ "100", "1000", "5000" })
+    private int classCount;
+
+    @Param({ "5" })
+    private int fieldCount;
+
+    @Param({ "1", "3" })
+    private int hierarchyDepth;
+
+    @Param({ "1" })
+    private int genericNesting;
+
+    @Param({ "1" })
+    private int parallelism;
+
+    private List<Class<?>> corpus;
+
+    /*
+     * A fresh corpus for every iteration, so that no iteration benefits from the classes that an
+     * earlier one has already loaded and cached.
+     */
+    @Setup(Level.Iteration)
+    public void generateCorpus() {
+        corpus =
+            new CorpusGenerator(fieldCount, hierarchyDepth, genericNesting).generate(classCount);
+    }
+
+    @Benchmark
+    public void forClasses() {
+        EqualsVerifier.forClasses(corpus).usingGetClass().withParallelism(parallelism).verify();
+    }
+}
@@ -0,0 +1,207 @@
+package nl.jqno.equalsverifier.benchmarks.scaling;
+
+import com.sun.management.GarbageCollectionNotificationInfo;
+import com.sun.management.GcInfo;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import javax.management.Notification;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import javax.management.openmbean.CompositeData;
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+/**
+ * Verifies generated corpora of increasing size once each, and prints the wall time, the bytes
+ * allocated and the peak heap usage per corpus, both in total and per class.
+ *
+ * <p>Unlike {@link ScalingBenchmark}, this runs outside of JMH, so it needs no forked JVM and
+ * reports memory figures that JMH's profilers don't. The numbers are from a single run, so use them
+ * to spot trends, not to compare small differences.
+ *
+ * <p>Usage: {@code java -cp benchmarks.jar
+ * nl.jqno.equalsverifier.benchmarks.scaling.ScalingHarness [classCounts [fieldCount
+ * [hierarchyDepth [genericNesting [parallelism]]]]]}, where {@code classCounts} is a
+ * comma-separated list. The defaults are {@code 100,1000,5000,10000 5 3 1 1}.
+ *
+ * <p>Allocations are derived from the heap rather than counted per thread: they're the growth of
+ * the heap during a run, plus everything the garbage collector freed in the meantime. This way,
+ * they include the allocations of worker threads when {@code parallelism} is greater than 1, even
+ * when these threads have terminated or are virtual. Collectors that work concurrently with the
+ * application make the figure less precise. The peak heap usage is the sum of the peaks of the
+ * individual heap pools, so it can overestimate the real peak.
+ */
+public final class ScalingHarness {
+
+    private static final int WARMUP_CLASS_COUNT = 200;
+    private static final long NOTIFICATION_TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private static final AtomicLong COLLECTED_BYTES = new AtomicLong();
+    private static final AtomicLong COLLECTIONS_SEEN = new AtomicLong();
+    private static long collectionsBefore;
+
+    /** Do not instantiate. */
+    private ScalingHarness() {}
+
+    public static void main(String[] args) {
+        String classCounts = args.length > 0 ? args[0] : "100,1000,5000,10000";
+        int fieldCount = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+        int hierarchyDepth = args.length > 2 ? Integer.parseInt(args[2]) : 3;
+        int genericNesting = args.length > 3 ? Integer.parseInt(args[3]) : 1;
+        int parallelism = args.length > 4 ? Integer.parseInt(args[4]) : 1;
+        CorpusGenerator generator = new CorpusGenerator(
+            fieldCount,
+            hierarchyDepth,
+            genericNesting
+        );
+
+        listenForCollections();
+        verify(generator.generate(WARMUP_CLASS_COUNT), parallelism);
+
+        System.out.printf(
+            "%8s %10s %10s %12s %12s %12s%n",
+            "classes",
+            "total ms",
+            "us/class",
+            "alloc MB",
+            "alloc KB/cls",
+            "peak heap MB"
+        );
+        for (String count : classCounts.split(",")) {
+            int classCount = Integer.parseInt(count.trim());
+            List<Class<?>> corpus = generator.generate(classCount);
+            Measurement m = measure(corpus, parallelism);
+            System.out.printf(
+                Locale.ROOT,
+                "%8d %10.1f %10.1f %12.1f %12.1f %12.1f%n",
+                classCount,
+                m.nanos / 1e6,
+                m.nanos / 1e3 / classCount,
+                m.allocatedBytes / 1e6,
+                m.allocatedBytes / 1e3 / classCount,
+                m.peakHeapBytes / 1e6
+            );
+        }
+    }
+
+    private static Measurement measure(List<Class<?>> corpus, int parallelism) {
+        System.gc();
+        for (MemoryPoolMXBean pool : heapPools()) {
+            pool.resetPeakUsage();
+        }
+        long allocatedBefore = allocatedBytes();
+        long start = System.nanoTime();
+
+        verify(corpus, parallelism);
+
+        long nanos = System.nanoTime() - start;
+        long allocated = allocatedBytes() - allocatedBefore;
+        long peak = 0;
+        for (MemoryPoolMXBean pool : heapPools()) {
+            peak += pool.getPeakUsage().getUsed();
+        }
+        return new Measurement(nanos, allocated, peak);
+    }
+
+    private static void verify(List<Class<?>> corpus, int parallelism) {
+        EqualsVerifier.forClasses(corpus).usingGetClass().withParallelism(parallelism).verify();
+    }
+
+    private static void listenForCollections() {
+        Set<String> heapPoolNames = heapPools()
+            .stream()
+            .map(MemoryPoolMXBean::getName)
+            .collect(Collectors.toSet());
+        NotificationListener listener = (notification, handback) ->
+            collected(notification, heapPoolNames);
+        for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            ((NotificationEmitter) collector).addNotificationListener(listener, null, null);
+        }
+        // Read after registering, so a collection in between can't leave us waiting for it.
+        collectionsBefore = collectionCount();
+    }
+
+    private static void collected(Notification notification, Set<String> heapPoolNames) {
+        String type = GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION;
+        if (!type.equals(notification.getType())) {
+            return;
+        }
+        GcInfo info = GarbageCollectionNotificationInfo
+            .from((CompositeData) notification.getUserData())
+            .getGcInfo();
+        Map<String, MemoryUsage> before = info.getMemoryUsageBeforeGc();
+        Map<String, MemoryUsage> after = info.getMemoryUsageAfterGc();
+        long freed = 0;
+        for (String pool : heapPoolNames) {
+            if (before.containsKey(pool) && after.containsKey(pool)) {
+                freed += before.get(pool).getUsed() - after.get(pool).getUsed();
+            }
+        }
+        COLLECTED_BYTES.addAndGet(freed);
+        COLLECTIONS_SEEN.incrementAndGet();
+    }
+
+    /**
+     * Returns the number of bytes allocated on the heap since {@link #listenForCollections()}, give
+     * or take a constant.
+     */
+    private static long allocatedBytes() {
+        awaitCollectionNotifications();
+        long used = 0;
+        for (MemoryPoolMXBean pool : heapPools()) {
+            used += pool.getUsage().getUsed();
+        }
+        return used + COLLECTED_BYTES.get();
+    }
+
+    /** Notifications are delivered asynchronously, so wait until the recent ones have arrived. */
+    private static void awaitCollectionNotifications() {
+        long expected = collectionCount() - collectionsBefore;
+        long deadline = System.nanoTime() + NOTIFICATION_TIMEOUT_NANOS;
+        while (COLLECTIONS_SEEN.get() < expected && System.nanoTime() < deadline) {
+            try {
+                Thread.sleep(1);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private static long collectionCount() {
+        long result = 0;
+        for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            result += Math.max(0, collector.getCollectionCount());
+        }
+        return result;
+    }
+
+    private static List<MemoryPoolMXBean> heapPools() {
+        List<MemoryPoolMXBean> result = new ArrayList<>(ManagementFactory.getMemoryPoolMXBeans());
+        result.removeIf(pool -> pool.getType() != MemoryType.HEAP);
+        return result;
+    }
+
+    private static final class Measurement {
+
+        private final long nanos;
+        private final long allocatedBytes;
+        private final long peakHeapBytes;
+
+        private Measurement(long nanos, long allocatedBytes, long peakHeapBytes) {
+            this.nanos = nanos;
+            this.allocatedBytes = allocatedBytes;
+            this.peakHeapBytes = peakHeapBytes;
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package nl.jqno.equalsverifier.benchmarks.types;
+
+/**
+ * A hierarchy of five classes, each of which adds a field and redefines {@code equals} and {@code
+ * hashCode}.
+ */
+public final class DeepHierarchy {
+
+    private DeepHierarchy() {}
+
+    public static class Level1 {
+
+        private final int a;
+
+        public Level1(int a) {
+            this.a = a;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (obj == null || getClass() != obj.getClass()) {
+                return false;
+            }
+            return a == ((Level1) obj).a;
+        }
+
+        @Override
+        public int hashCode() {
+            return a;
+        }
+    }
+
+    public static class Level2 extends Level1 {
+
+        private final int b;
+
+        public Level2(int a, int b) {
+            super(a);
+            this.b = b;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return super.equals(obj) && b == ((Level2) obj).b;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * super.hashCode() + b;
+        }
+    }
+
+    public static class Level3 extends Level2 {
+
+        private final int c;
+
+        public Level3(int a, int b, int c) {
+            super(a, b);
+            this.c = c;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return super.equals(obj) && c == ((Level3) obj).c;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * super.hashCode() + c;
+        }
+    }
+
+    public static class Level4 extends Level3 {
+
+        private final int d;
+
+        public Level4(int a, int b, int c, int d) {
+            super(a, b, c);
+            this.d = d;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return super.equals(obj) && d == ((Level4) obj).d;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * super.hashCode() + d;
+        }
+    }
+
+    public static final class Level5 extends Level4 {
+
+        private final int e;
+
+        public Level5(int a, int b, int c, int d, int e) {
+            super(a, b, c, d);
+            this.e = e;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return super.equals(obj) && e == ((Level5) obj).e;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * super.hashCode() + e;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package nl.jqno.equalsverifier.benchmarks.types;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+/** A value type whose fields have nested generic types. */
+public final class GenericContainer<T> {
+
+    private final List<T> items;
+    private final Map<String, List<T>> index;
+    private final Optional<Set<T>> tags;
+
+    public GenericContainer(List<T> items, Map<String, List<T>> index, Optional<Set<T>> tags) {
+        this.items = items;
+        this.index = index;
+        this.tags = tags;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (!(obj instanceof GenericContainer)) {
+            return false;
+        }
+        GenericContainer<?> other = (GenericContainer<?>) obj;
+        return (
+            Objects.equals(items, other.items) &&
+            Objects.equals(index, other.index) &&
+            Objects.equals(tags, other.tags)
+        );
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(items, index, tags);
+    }
+}
@@ -0,0 +1,36 @@
+package nl.jqno.equalsverifier.benchmarks.types;
+
+import java.util.Objects;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+/** A JPA entity with a business key. */
+@Entity
+public class JpaEntity {
+
+    @Id
+    private Long id;
+
+    private String name;
+    private int quantity;
+
+    public JpaEntity(Long id, String name, int quantity) {
+        this.id = id;
+        this.name = name;
+        this.quantity = quantity;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (!(obj instanceof JpaEntity)) {
+            return false;
+        }
+        JpaEntity other = (JpaEntity) obj;
+        return Objects.equals(name, other.name) && quantity == other.quantity;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name, quantity);
+    }
+}
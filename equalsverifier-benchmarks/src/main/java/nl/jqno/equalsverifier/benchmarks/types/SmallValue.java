@@ -0,0 +1,29 @@
+package nl.jqno.equalsverifier.benchmarks.types;
+
+import java.util.Objects;
+
+/** A typical small value type. */
+public final class SmallValue {
+
+    private final int amount;
+    private final String currency;
+
+    public SmallValue(int amount, String currency) {
+        this.amount = amount;
+        this.currency = currency;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (!(obj instanceof SmallValue)) {
+            return false;
+        }
+        SmallValue other = (SmallValue) obj;
+        return amount == other.amount && Objects.equals(currency, other.currency);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(amount, currency);
+    }
+}
@@ -0,0 +1,135 @@
+package nl.jqno.equalsverifier.benchmarks.types;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+/** A data transfer object with many fields of many different types. */
+public final class WideDto {
+
+    private final int a;
+    private final long b;
+    private final String c;
+    private final double d;
+    private final boolean e;
+    private final char f;
+    private final float g;
+    private final Integer h;
+    private final Instant i;
+    private final LocalDate j;
+    private final List<String> k;
+    private final Map<String, Integer> l;
+    private final byte m;
+    private final short n;
+    private final String o;
+    private final UUID p;
+    private final Set<Long> q;
+    private final int[] r;
+    private final String s;
+    private final Object t;
+
+    public WideDto(
+        int a,
+        long b,
+        String c,
+        double d,
+        boolean e,
+        char f,
+        float g,
+        Integer h,
+        Instant i,
+        LocalDate j,
+        List<String> k,
+        Map<String, Integer> l,
+        byte m,
+        short n,
+        String o,
+        UUID p,
+        Set<Long> q,
+        int[] r,
+        String s,
+        Object t
+    ) {
+        this.a = a;
+        this.b = b;
+        this.c = c;
+        this.d = d;
+        this.e = e;
+        this.f = f;
+        this.g = g;
+        this.h = h;
+        this.i = i;
+        this.j = j;
+        this.k = k;
+        this.l = l;
+        this.m = m;
+        this.n = n;
+        this.o = o;
+        this.p = p;
+        this.q = q;
+        this.r = r;
+        this.s = s;
+        this.t = t;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (!(obj instanceof WideDto)) {
+            return false;
+        }
+        WideDto other = (WideDto) obj;
+        return (
+            a == other.a &&
+            b == other.b &&
+            Objects.equals(c, other.c) &&
+            Double.compare(d, other.d) == 0 &&
+            e == other.e &&
+            f == other.f &&
+            Float.compare(g, other.g) == 0 &&
+            Objects.equals(h, other.h) &&
+            Objects.equals(i, other.i) &&
+            Objects.equals(j, other.j) &&
+            Objects.equals(k, other.k) &&
+            Objects.equals(l, other.l) &&
+            m == other.m &&
+            n == other.n &&
+            Objects.equals(o, other.o) &&
+            Objects.equals(p, other.p) &&
+            Objects.equals(q, other.q) &&
+            Arrays.equals(r, other.r) &&
+            Objects.equals(s, other.s) &&
+            Objects.equals(t, other.t)
+        );
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Objects.hash(
+            a,
+            b,
+            c,
+            d,
+            e,
+            f,
+            g,
+            h,
+            i,
+            j,
+            k,
+            l,
+            m,
+            n,
+            o,
+            p,
+            q,
+            s,
+            t
+        );
+        return 31 * result + Arrays.hashCode(r);
+    }
+}
@@ -0,0 +1,6 @@
+package nl.jqno.equalsverifier.benchmarks.types;
+
+import java.util.List;
+
+/** A typical record. */
+public record RecordValue(int amount, String currency, List<String> tags) {}
@@ -1,5 +1,6 @@
 package nl.jqno.equalsverifier;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.EnumSet;
 import java.util.List;
@@ -10,8 +11,8 @@ import nl.jqno.equalsverifier.api.MultipleTypeEqualsVerifierApi;
 import nl.jqno.equalsverifier.api.SingleTypeEqualsVerifierApi;
 import nl.jqno.equalsverifier.internal.prefabvalues.FactoryCache;
 import nl.jqno.equalsverifier.internal.reflection.PackageScanner;
+import nl.jqno.equalsverifier.internal.util.Caches;
 import nl.jqno.equalsverifier.internal.util.ListBuilders;
-import nl.jqno.equalsverifier.internal.util.ObjenesisWrapper;
 import nl.jqno.equalsverifier.internal.util.PrefabValuesApi;
 import nl.jqno.equalsverifier.internal.util.Validations;
 
@@ -20,21 +21,41 @@ public final class ConfiguredEqualsVerifier implements EqualsVerifierApi<Void> {
     private final EnumSet<Warning> warningsToSuppress;
     private final FactoryCache factoryCache;
     private boolean usingGetClass;
+    private boolean sharedPrefabValueCache;
+    private boolean reflectiveAnnotationScanning;
+    private boolean virtualThreads;
+    private final List<VerificationListener> listeners;
 
     /** Constructor. */
     public ConfiguredEqualsVerifier() {
-        this(EnumSet.noneOf(Warning.class), new FactoryCache(), false);
+        this(
+            EnumSet.noneOf(Warning.class),
+            new FactoryCache(),
+            false,
+            false,
+            false,
+            false,
+            new ArrayList<>()
+        );
     }
 
     /** Private constructor. For internal use only. */
     private ConfiguredEqualsVerifier(
         EnumSet<Warning> warningsToSuppress,
         FactoryCache factoryCache,
-        boolean usingGetClass
+        boolean usingGetClass,
+        boolean sharedPrefabValueCache,
+        boolean reflectiveAnnotationScanning,
+        boolean virtualThreads,
+        List<VerificationListener> listeners
     ) {
         this.warningsToSuppress = warningsToSuppress;
         this.factoryCache = factoryCache;
         this.usingGetClass = usingGetClass;
+        this.sharedPrefabValueCache = sharedPrefabValueCache;
+        this.reflectiveAnnotationScanning = reflectiveAnnotationScanning;
+        this.virtualThreads = virtualThreads;
+        this.listeners = listeners;
     }
 
     /**
@@ -46,7 +67,11 @@ public final class ConfiguredEqualsVerifier implements EqualsVerifierApi<Void> {
         return new ConfiguredEqualsVerifier(
             EnumSet.copyOf(warningsToSuppress),
             new FactoryCache().merge(factoryCache),
-            usingGetClass
+            usingGetClass,
+            sharedPrefabValueCache,
+            reflectiveAnnotationScanning,
+            virtualThreads,
+            new ArrayList<>(listeners)
         );
     }
 
@@ -91,10 +116,39 @@ public final class ConfiguredEqualsVerifier implements EqualsVerifierApi<Void> {
         return this;
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public ConfiguredEqualsVerifier withSharedPrefabValueCache() {
+        sharedPrefabValueCache = true;
+        return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ConfiguredEqualsVerifier withReflectiveAnnotationScanning() {
+        reflectiveAnnotationScanning = true;
+        return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ConfiguredEqualsVerifier withVirtualThreads() {
+        virtualThreads = true;
+        return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ConfiguredEqualsVerifier withListener(VerificationListener listener) {
+        Validations.validateNotNull(listener, "listener is null.");
+        listeners.add(listener);
+        return this;
+    }
+
     /** {@inheritDoc} */
     @Override
     public ConfiguredEqualsVerifier withResetCaches() {
-        ObjenesisWrapper.reset();
+        Caches.reset();
         return this;
     }
 
@@ -106,12 +160,23 @@ public final class ConfiguredEqualsVerifier implements EqualsVerifierApi<Void> {
      * @return A fluent API for EqualsVerifier.
      */
     public <T> SingleTypeEqualsVerifierApi<T> forClass(Class<T> type) {
-        return new SingleTypeEqualsVerifierApi<>(
+        SingleTypeEqualsVerifierApi<T> api = new SingleTypeEqualsVerifierApi<>(
             type,
             EnumSet.copyOf(warningsToSuppress),
             factoryCache,
             usingGetClass
         );
+        if (sharedPrefabValueCache) {
+            api.withSharedPrefabValueCache();
+        }
+        if (reflectiveAnnotationScanning) {
+            api.withReflectiveAnnotationScanning();
+        }
+        if (virtualThreads) {
+            api.withVirtualThreads();
+        }
+        listeners.forEach(api::withListener);
+        return api;
     }
 
     /**
@@ -122,7 +187,11 @@ public final class ConfiguredEqualsVerifier implements EqualsVerifierApi<Void> {
      * @return A fluent API for EqualsVerifier.
      */
     public MultipleTypeEqualsVerifierApi forClasses(Iterable<Class<?>> classes) {
-        return new MultipleTypeEqualsVerifierApi(ListBuilders.fromIterable(classes), this);
+        return new MultipleTypeEqualsVerifierApi(
+            ListBuilders.fromIterable(classes),
+            this,
+            virtualThreads
+        );
     }
 
     /**
@@ -140,7 +209,8 @@ public final class ConfiguredEqualsVerifier implements EqualsVerifierApi<Void> {
     ) {
         return new MultipleTypeEqualsVerifierApi(
             ListBuilders.buildListOfAtLeastTwo(first, second, more),
-            this
+            this,
+            virtualThreads
         );
     }
 
@@ -170,6 +240,6 @@ public final class ConfiguredEqualsVerifier implements EqualsVerifierApi<Void> {
     public MultipleTypeEqualsVerifierApi forPackage(String packageName, boolean scanRecursively) {
         List<Class<?>> classes = PackageScanner.getClassesIn(packageName, scanRecursively);
         Validations.validatePackageContainsClasses(packageName, classes);
-        return new MultipleTypeEqualsVerifierApi(classes, this);
+        return new MultipleTypeEqualsVerifierApi(classes, this, virtualThreads);
     }
 }
@@ -16,6 +16,7 @@ public final class EqualsVerifierReport {
     private final boolean successful;
     private final String message;
     private final Throwable cause;
+    private final VerificationStatistics statistics;
 
     /**
      * Factory method for a successful run of {@code EqualsVerifier}.
@@ -25,7 +26,19 @@ public final class EqualsVerifierReport {
      *     EqualsVerifier}.
      */
     public static EqualsVerifierReport success(Class<?> type) {
-        return new EqualsVerifierReport(type, true, "", null);
+        return success(type, VerificationStatistics.EMPTY);
+    }
+
+    /**
+     * Factory method for a successful run of {@code EqualsVerifier}.
+     *
+     * @param type The class that was tested.
+     * @param statistics Measurements of the run.
+     * @return an {@code EqualsVerifierReport} representing the successful result of a run of {@code
+     *     EqualsVerifier}.
+     */
+    public static EqualsVerifierReport success(Class<?> type, VerificationStatistics statistics) {
+        return new EqualsVerifierReport(type, true, "", null, statistics);
     }
 
     /**
@@ -38,7 +51,26 @@ public final class EqualsVerifierReport {
      *     EqualsVerifier}.
      */
     public static EqualsVerifierReport failure(Class<?> type, String message, Throwable cause) {
-        return new EqualsVerifierReport(type, false, message, cause);
+        return failure(type, message, cause, VerificationStatistics.EMPTY);
+    }
+
+    /**
+     * Factory method for an unsuccessful run of {@code EqualsVerifier}.
+     *
+     * @param type The class that was tested.
+     * @param message Error message when the run is unsuccessful.
+     * @param cause Exception when the run is unsuccessful.
+     * @param statistics Measurements of the run, up to the point where it failed.
+     * @return an {@code EqualsVerifierReport} representing the failed result of a run of {@code
+     *     EqualsVerifier}.
+     */
+    public static EqualsVerifierReport failure(
+        Class<?> type,
+        String message,
+        Throwable cause,
+        VerificationStatistics statistics
+    ) {
+        return new EqualsVerifierReport(type, false, message, cause, statistics);
     }
 
     /** Private constructor. Use {@link #SUCCESS} or {@link #failure(String, Throwable)} instead. */
@@ -46,12 +78,14 @@ public final class EqualsVerifierReport {
         Class<?> type,
         boolean successful,
         String message,
-        Throwable cause
+        Throwable cause,
+        VerificationStatistics statistics
     ) {
         this.type = type;
         this.successful = successful;
         this.message = message;
         this.cause = cause;
+        this.statistics = statistics;
     }
 
     /** @return the class that was tested. */
@@ -89,4 +123,12 @@ public final class EqualsVerifierReport {
     public Throwable getCause() {
         return cause;
     }
+
+    /**
+     * @return measurements of the run, such as how long it took; or {@link
+     *     VerificationStatistics#EMPTY} if none were collected.
+     */
+    public VerificationStatistics getStatistics() {
+        return statistics;
+    }
 }
@@ -0,0 +1,80 @@
+package nl.jqno.equalsverifier;
+
+import nl.jqno.equalsverifier.Func.Func1;
+import nl.jqno.equalsverifier.Func.Func2;
+
+/**
+ * Service provider interface for libraries that want to supply prefab values for their own types,
+ * so that tests for classes that use these types don't need to call {@code withPrefabValues}.
+ *
+ * <p>Implementations are discovered with {@link java.util.ServiceLoader}: add a file called {@code
+ * META-INF/services/nl.jqno.equalsverifier.PrefabValueProvider} to the library's jar, containing
+ * the fully qualified name of the implementation. Implementations must have a public no-argument
+ * constructor.
+ *
+ * <p>Providers are discovered through the ClassLoader that loaded EqualsVerifier, not through the
+ * context ClassLoader of the current thread. They are discovered and called only once, the first
+ * time EqualsVerifier needs prefab values, and again after {@code withResetCaches()}. The values
+ * they add are shared by all verifications, so they should be immutable, or at least never be
+ * modified.
+ *
+ * <p>Values that are added in a test with {@code withPrefabValues} take precedence over values from
+ * a provider. Values from a provider for types that EqualsVerifier already has prefab values for,
+ * such as the types of the Java API, are ignored.
+ */
+@FunctionalInterface
+public interface PrefabValueProvider {
+    /**
+     * Adds prefab values to the given registry.
+     *
+     * @param registry The registry to add prefab values to.
+     */
+    void addPrefabValues(Registry registry);
+
+    /**
+     * Collects the prefab values of a {@link PrefabValueProvider}. Its methods behave like the
+     * methods with the same name in {@link nl.jqno.equalsverifier.api.EqualsVerifierApi}.
+     */
+    interface Registry {
+        /**
+         * Adds prefabricated values for instance fields of classes that EqualsVerifier cannot
+         * instantiate by itself.
+         *
+         * @param <S> The class of the prefabricated values.
+         * @param otherType The class of the prefabricated values.
+         * @param red An instance of {@code S}.
+         * @param blue Another instance of {@code S}, not equal to {@code red}.
+         * @return {@code this}, for easy method chaining.
+         * @throws NullPointerException If either {@code otherType}, {@code red}, or {@code blue} is
+         *     null.
+         * @throws IllegalArgumentException If {@code red} equals {@code blue}.
+         */
+        <S> Registry withPrefabValues(Class<S> otherType, S red, S blue);
+
+        /**
+         * Adds a factory to generate prefabricated values for instance fields of classes with 1
+         * generic type parameter that EqualsVerifier cannot instantiate by itself.
+         *
+         * @param <S> The class of the prefabricated values.
+         * @param otherType The class of the prefabricated values.
+         * @param factory A factory to generate an instance of {@code S}, given a value of its
+         *     generic type parameter.
+         * @return {@code this}, for easy method chaining.
+         * @throws NullPointerException if either {@code otherType} or {@code factory} is null.
+         */
+        <S> Registry withGenericPrefabValues(Class<S> otherType, Func1<?, S> factory);
+
+        /**
+         * Adds a factory to generate prefabricated values for instance fields of classes with 2
+         * generic type parameters that EqualsVerifier cannot instantiate by itself.
+         *
+         * @param <S> The class of the prefabricated values.
+         * @param otherType The class of the prefabricated values.
+         * @param factory A factory to generate an instance of {@code S}, given a value of each of
+         *     its generic type parameters.
+         * @return {@code this}, for easy method chaining.
+         * @throws NullPointerException if either {@code otherType} or {@code factory} is null.
+         */
+        <S> Registry withGenericPrefabValues(Class<S> otherType, Func2<?, ?, S> factory);
+    }
+}
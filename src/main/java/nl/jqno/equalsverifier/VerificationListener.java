@@ -0,0 +1,69 @@
+package nl.jqno.equalsverifier;
+
+/**
+ * Receives events while EqualsVerifier verifies a class, with the time that each part of the
+ * verification took. Use it to find out which classes make a test suite slow, and why.
+ *
+ * <p>Register a listener with {@link nl.jqno.equalsverifier.api.EqualsVerifierApi#withListener}.
+ * All methods have an empty default implementation, so a listener only needs to implement the
+ * events it is interested in.
+ *
+ * <p>A verification runs through the {@link Phase}s in order, and stops at the first phase that
+ * finds a problem. The last two phases run a number of checkers each. Every started phase and
+ * checker is also finished, even when it finds a problem. When several classes are verified in
+ * parallel, the listener is called from several threads at the same time.
+ *
+ * <p>Exceptions that a listener throws are reported as a problem in the class under test. If the
+ * verification also found a problem, that problem is reported, and the listener's exception is
+ * added to it as a suppressed exception. A listener that throws doesn't keep the other listeners
+ * from being finished.
+ */
+public interface VerificationListener {
+    /**
+     * The phases of the verification of a single class.
+     */
+    enum Phase {
+        /** Processes the configuration and the annotations of the class under test. */
+        BUILD_CONFIG,
+        /** Checks that the configuration doesn't contradict the annotations. */
+        VALIDATE_PROCESSED_ANNOTATIONS,
+        /** Runs the checkers that don't need instances of the class under test. */
+        VERIFY_WITHOUT_EXAMPLES,
+        /** Runs the checkers that do need instances of the class under test. */
+        VERIFY_WITH_EXAMPLES
+    }
+
+    /**
+     * Called when a phase of the verification starts.
+     *
+     * @param type The class under test.
+     * @param phase The phase that starts.
+     */
+    default void phaseStarted(Class<?> type, Phase phase) {}
+
+    /**
+     * Called when a phase of the verification has finished, whether or not it found a problem.
+     *
+     * @param type The class under test.
+     * @param phase The phase that has finished.
+     * @param nanos How long the phase took, in nanoseconds.
+     */
+    default void phaseFinished(Class<?> type, Phase phase, long nanos) {}
+
+    /**
+     * Called when a checker starts.
+     *
+     * @param type The class under test.
+     * @param checker The name of the checker, for instance {@code "FieldsChecker"}.
+     */
+    default void checkerStarted(Class<?> type, String checker) {}
+
+    /**
+     * Called when a checker has finished, whether or not it found a problem.
+     *
+     * @param type The class under test.
+     * @param checker The name of the checker, for instance {@code "FieldsChecker"}.
+     * @param nanos How long the checker took, in nanoseconds.
+     */
+    default void checkerFinished(Class<?> type, String checker, long nanos) {}
+}
@@ -0,0 +1,171 @@
+package nl.jqno.equalsverifier;
+
+/**
+ * Contains measurements of a single {@link EqualsVerifier} run, such as how long it took and how
+ * many objects it created. Use them to find the classes that take the most time to verify, and to
+ * track that over time.
+ *
+ * <p>Only {@code report()} collects statistics. The counts include everything that happened while
+ * verifying the class, on the calling thread and on the threads that {@code
+ * withFieldParallelism} starts. Calls to {@code equals} and {@code hashCode} are only counted
+ * when EqualsVerifier makes them directly on instances of the class under test; calls that those
+ * methods make in turn, for instance on the fields, are not counted.
+ */
+public final class VerificationStatistics {
+
+    /** Statistics of a run that measured nothing. */
+    public static final VerificationStatistics EMPTY = builder().build();
+
+    private final long wallTimeNanos;
+    private final long objectsInstantiated;
+    private final long equalsInvocations;
+    private final long hashCodeInvocations;
+    private final long dynamicSubclassesGenerated;
+    private final long prefabTuplesCreated;
+
+    private VerificationStatistics(Builder builder) {
+        this.wallTimeNanos = builder.wallTimeNanos;
+        this.objectsInstantiated = builder.objectsInstantiated;
+        this.equalsInvocations = builder.equalsInvocations;
+        this.hashCodeInvocations = builder.hashCodeInvocations;
+        this.dynamicSubclassesGenerated = builder.dynamicSubclassesGenerated;
+        this.prefabTuplesCreated = builder.prefabTuplesCreated;
+    }
+
+    /**
+     * Factory method for a builder of {@code VerificationStatistics}. Measurements that aren't set
+     * are 0.
+     *
+     * @return A new builder.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /** @return how long the run took, in nanoseconds. */
+    public long getWallTimeNanos() {
+        return wallTimeNanos;
+    }
+
+    /** @return how many objects were instantiated. */
+    public long getObjectsInstantiated() {
+        return objectsInstantiated;
+    }
+
+    /** @return how many times {@code equals} was called on an instance of the class under test. */
+    public long getEqualsInvocations() {
+        return equalsInvocations;
+    }
+
+    /**
+     * @return how many times {@code hashCode} was called on an instance of the class under test.
+     */
+    public long getHashCodeInvocations() {
+        return hashCodeInvocations;
+    }
+
+    /** @return how many subclasses were generated at runtime. */
+    public long getDynamicSubclassesGenerated() {
+        return dynamicSubclassesGenerated;
+    }
+
+    /** @return how many red/blue pairs of values were created for fields. */
+    public long getPrefabTuplesCreated() {
+        return prefabTuplesCreated;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return (
+            "VerificationStatistics [wallTimeNanos=" +
+            wallTimeNanos +
+            ", objectsInstantiated=" +
+            objectsInstantiated +
+            ", equalsInvocations=" +
+            equalsInvocations +
+            ", hashCodeInvocations=" +
+            hashCodeInvocations +
+            ", dynamicSubclassesGenerated=" +
+            dynamicSubclassesGenerated +
+            ", prefabTuplesCreated=" +
+            prefabTuplesCreated +
+            "]"
+        );
+    }
+
+    /** Builds {@link VerificationStatistics}. */
+    public static final class Builder {
+
+        private long wallTimeNanos;
+        private long objectsInstantiated;
+        private long equalsInvocations;
+        private long hashCodeInvocations;
+        private long dynamicSubclassesGenerated;
+        private long prefabTuplesCreated;
+
+        /** Private constructor. Use {@link VerificationStatistics#builder()} instead. */
+        private Builder() {}
+
+        /**
+         * @param value How long the run took, in nanoseconds.
+         * @return {@code this}, for easy method chaining.
+         */
+        public Builder withWallTimeNanos(long value) {
+            this.wallTimeNanos = value;
+            return this;
+        }
+
+        /**
+         * @param value How many objects were instantiated without calling a constructor, or by
+         *     calling the canonical constructor of a record.
+         * @return {@code this}, for easy method chaining.
+         */
+        public Builder withObjectsInstantiated(long value) {
+            this.objectsInstantiated = value;
+            return this;
+        }
+
+        /**
+         * @param value How many times {@code equals} was called.
+         * @return {@code this}, for easy method chaining.
+         */
+        public Builder withEqualsInvocations(long value) {
+            this.equalsInvocations = value;
+            return this;
+        }
+
+        /**
+         * @param value How many times {@code hashCode} was called.
+         * @return {@code this}, for easy method chaining.
+         */
+        public Builder withHashCodeInvocations(long value) {
+            this.hashCodeInvocations = value;
+            return this;
+        }
+
+        /**
+         * @param value How many subclasses were generated at runtime. Subclasses are generated
+         *     only once, so a subclass that an earlier run generated is not counted.
+         * @return {@code this}, for easy method chaining.
+         */
+        public Builder withDynamicSubclassesGenerated(long value) {
+            this.dynamicSubclassesGenerated = value;
+            return this;
+        }
+
+        /**
+         * @param value How many red/blue pairs of values were created for fields.
+         * @return {@code this}, for easy method chaining.
+         */
+        public Builder withPrefabTuplesCreated(long value) {
+            this.prefabTuplesCreated = value;
+            return this;
+        }
+
+        /** @return The {@link VerificationStatistics}. */
+        public VerificationStatistics build() {
+            return new VerificationStatistics(this);
+        }
+    }
+}
@@ -3,6 +3,7 @@ package nl.jqno.equalsverifier.api;
 import nl.jqno.equalsverifier.EqualsVerifier;
 import nl.jqno.equalsverifier.Func.Func1;
 import nl.jqno.equalsverifier.Func.Func2;
+import nl.jqno.equalsverifier.VerificationListener;
 import nl.jqno.equalsverifier.Warning;
 
 /**
@@ -73,6 +74,59 @@ public interface EqualsVerifierApi<T> {
      */
     EqualsVerifierApi<T> usingGetClass();
 
+    /**
+     * Signals that prefabricated values may be shared with other verifications that also call this
+     * method. Values that EqualsVerifier creates for a type are then created only once, instead of
+     * once for every class under test that uses that type. This can speed up verifying many classes
+     * that have fields of the same types, for example with {@link EqualsVerifier#forPackage(String)}.
+     *
+     * <p>Values are only shared between verifications that use the same prefab values. The cache
+     * is bounded, and {@link #withResetCaches()} clears it.
+     *
+     * @return {@code this}, for easy method chaining.
+     */
+    EqualsVerifierApi<T> withSharedPrefabValueCache();
+
+    /**
+     * Signals that EqualsVerifier should look for annotations such as {@code @Nonnull} and
+     * {@code @Entity} through reflection, instead of by reading the class files of the class under
+     * test, its superclasses, outer classes and package. This is faster, but reflection can only
+     * see annotations with {@link java.lang.annotation.RetentionPolicy#RUNTIME} retention.
+     *
+     * <p>If reflection finds no supported annotations at all, EqualsVerifier still reads the class
+     * files, in case the class uses annotations with {@link
+     * java.lang.annotation.RetentionPolicy#CLASS} retention. However, if a class has both, only the
+     * runtime annotations are found.
+     *
+     * @return {@code this}, for easy method chaining.
+     */
+    EqualsVerifierApi<T> withReflectiveAnnotationScanning();
+
+    /**
+     * Signals that work that EqualsVerifier does in parallel, should run on virtual threads
+     * instead of on a pool of platform threads. This helps when {@code equals} or {@code hashCode}
+     * block, for instance because they trigger a lazy-loading proxy, or a class initializer that
+     * does I/O.
+     *
+     * <p>Virtual threads are only available on Java 21 and up. On earlier versions, EqualsVerifier
+     * uses platform threads regardless.
+     *
+     * <p>This has no effect unless parallelism is enabled as well.
+     *
+     * @return {@code this}, for easy method chaining.
+     */
+    EqualsVerifierApi<T> withVirtualThreads();
+
+    /**
+     * Adds a listener that is told about the phases and checkers of each verification, and how
+     * long they take.
+     *
+     * @param listener The listener to add.
+     * @return {@code this}, for easy method chaining.
+     * @throws NullPointerException If {@code listener} is null.
+     */
+    EqualsVerifierApi<T> withListener(VerificationListener listener);
+
     /**
      * Signals that all internal caches need to be reset. This is useful when the test framework
      * uses multiple ClassLoaders to run tests, causing {@link java.lang.Class} instances
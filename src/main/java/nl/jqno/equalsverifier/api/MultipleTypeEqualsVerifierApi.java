@@ -9,10 +9,14 @@ import nl.jqno.equalsverifier.EqualsVerifier;
 import nl.jqno.equalsverifier.EqualsVerifierReport;
 import nl.jqno.equalsverifier.Func.Func1;
 import nl.jqno.equalsverifier.Func.Func2;
+import nl.jqno.equalsverifier.VerificationListener;
 import nl.jqno.equalsverifier.Warning;
+import nl.jqno.equalsverifier.internal.prefabvalues.JavaApiPrefabValues;
+import nl.jqno.equalsverifier.internal.util.Caches;
 import nl.jqno.equalsverifier.internal.util.Formatter;
 import nl.jqno.equalsverifier.internal.util.ListBuilders;
-import nl.jqno.equalsverifier.internal.util.ObjenesisWrapper;
+import nl.jqno.equalsverifier.internal.util.ParallelMapper;
+import nl.jqno.equalsverifier.internal.util.Scheduler;
 import nl.jqno.equalsverifier.internal.util.Validations;
 
 /**
@@ -22,10 +26,21 @@ public class MultipleTypeEqualsVerifierApi implements EqualsVerifierApi<Void> {
 
     private final List<Class<?>> types;
     private final ConfiguredEqualsVerifier ev;
+    private int parallelism = 1;
+    private boolean virtualThreads = false;
 
     public MultipleTypeEqualsVerifierApi(List<Class<?>> types, ConfiguredEqualsVerifier ev) {
+        this(types, ev, false);
+    }
+
+    public MultipleTypeEqualsVerifierApi(
+        List<Class<?>> types,
+        ConfiguredEqualsVerifier ev,
+        boolean virtualThreads
+    ) {
         this.types = new ArrayList<>(types);
         this.ev = ev.copy();
+        this.virtualThreads = virtualThreads;
     }
 
     /** {@inheritDoc} */
@@ -69,10 +84,39 @@ public class MultipleTypeEqualsVerifierApi implements EqualsVerifierApi<Void> {
         return this;
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public MultipleTypeEqualsVerifierApi withSharedPrefabValueCache() {
+        ev.withSharedPrefabValueCache();
+        return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public MultipleTypeEqualsVerifierApi withReflectiveAnnotationScanning() {
+        ev.withReflectiveAnnotationScanning();
+        return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public MultipleTypeEqualsVerifierApi withVirtualThreads() {
+        ev.withVirtualThreads();
+        this.virtualThreads = true;
+        return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public MultipleTypeEqualsVerifierApi withListener(VerificationListener listener) {
+        ev.withListener(listener);
+        return this;
+    }
+
     /** {@inheritDoc} */
     @Override
     public MultipleTypeEqualsVerifierApi withResetCaches() {
-        ObjenesisWrapper.reset();
+        Caches.reset();
         return this;
     }
 
@@ -105,6 +149,23 @@ public class MultipleTypeEqualsVerifierApi implements EqualsVerifierApi<Void> {
         return this;
     }
 
+    /**
+     * Verifies the types on several threads at once. By default, types are verified one after
+     * another on the calling thread.
+     *
+     * <p>The order of the reports, and of the failures in the error message, is the same as when
+     * verifying sequentially.
+     *
+     * @param parallelism The maximum number of types to verify at the same time. Must be at least
+     *     1.
+     * @return {@code this}, for easy method chaining.
+     */
+    public MultipleTypeEqualsVerifierApi withParallelism(int parallelism) {
+        Validations.validateParallelism(parallelism);
+        this.parallelism = parallelism;
+        return this;
+    }
+
     private void removeTypes(List<Class<?>> typesToRemove) {
         Validations.validateTypesAreKnown(typesToRemove, types);
         types.removeAll(typesToRemove);
@@ -148,6 +209,14 @@ public class MultipleTypeEqualsVerifierApi implements EqualsVerifierApi<Void> {
      *     and whether {@link EqualsVerifier}'s preconditions hold.
      */
     public List<EqualsVerifierReport> report() {
-        return types.stream().map(t -> ev.forClass(t).report(false)).collect(Collectors.toList());
+        if (parallelism > 1) {
+            JavaApiPrefabValues.prewarm();
+        }
+        return ParallelMapper.map(
+            types,
+            t -> ev.forClass(t).report(false),
+            parallelism,
+            Scheduler.of(virtualThreads)
+        );
     }
 }
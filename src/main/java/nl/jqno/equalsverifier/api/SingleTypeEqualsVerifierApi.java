@@ -5,6 +5,9 @@ import nl.jqno.equalsverifier.EqualsVerifier;
 import nl.jqno.equalsverifier.EqualsVerifierReport;
 import nl.jqno.equalsverifier.Func.Func1;
 import nl.jqno.equalsverifier.Func.Func2;
+import nl.jqno.equalsverifier.VerificationListener;
+import nl.jqno.equalsverifier.VerificationListener.Phase;
+import nl.jqno.equalsverifier.VerificationStatistics;
 import nl.jqno.equalsverifier.Warning;
 import nl.jqno.equalsverifier.internal.checkers.*;
 import nl.jqno.equalsverifier.internal.exceptions.MessagingException;
@@ -24,6 +27,11 @@ public class SingleTypeEqualsVerifierApi<T> implements EqualsVerifierApi<T> {
 
     private EnumSet<Warning> warningsToSuppress = EnumSet.noneOf(Warning.class);
     private boolean usingGetClass = false;
+    private boolean sharedPrefabValueCache = false;
+    private boolean reflectiveAnnotationScanning = false;
+    private int fieldParallelism = 1;
+    private boolean virtualThreads = false;
+    private List<VerificationListener> listeners = new ArrayList<>();
     private boolean hasRedefinedSuperclass = false;
     private Class<? extends T> redefinedSubclass = null;
     private FactoryCache factoryCache = new FactoryCache();
@@ -128,6 +136,27 @@ public class SingleTypeEqualsVerifierApi<T> implements EqualsVerifierApi<T> {
         return this;
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public SingleTypeEqualsVerifierApi<T> withSharedPrefabValueCache() {
+        this.sharedPrefabValueCache = true;
+        return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public SingleTypeEqualsVerifierApi<T> withReflectiveAnnotationScanning() {
+        this.reflectiveAnnotationScanning = true;
+        return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public SingleTypeEqualsVerifierApi<T> withVirtualThreads() {
+        this.virtualThreads = true;
+        return this;
+    }
+
     /**
      * Signals that all given fields are not relevant for the {@code equals} contract. {@code
      * EqualsVerifier} will not fail if one of these fields does not affect the outcome of {@code
@@ -238,6 +267,28 @@ public class SingleTypeEqualsVerifierApi<T> implements EqualsVerifierApi<T> {
         return this;
     }
 
+    /**
+     * Signals that EqualsVerifier may check several fields of T at the same time, on separate
+     * threads. This can speed up the verification of classes with many fields.
+     *
+     * <p>The objects that EqualsVerifier creates are never shared between threads, but the {@code
+     * equals}, {@code hashCode} and {@code toString} methods of T, and those of its fields, must
+     * not depend on shared state that isn't thread-safe. Classes with static fields that are not
+     * final are always checked one field at a time.
+     *
+     * <p>If T doesn't adhere to the contracts, the same problem is reported as when the fields are
+     * checked one at a time.
+     *
+     * @param parallelism The maximum number of fields to check at the same time. Must be at least
+     *     1.
+     * @return {@code this}, for easy method chaining.
+     */
+    public SingleTypeEqualsVerifierApi<T> withFieldParallelism(int parallelism) {
+        Validations.validateParallelism(parallelism);
+        this.fieldParallelism = parallelism;
+        return this;
+    }
+
     /**
      * Signals that T caches its hashCode, instead of re-calculating it each time the {@code
      * hashCode()} method is called.
@@ -292,10 +343,18 @@ public class SingleTypeEqualsVerifierApi<T> implements EqualsVerifierApi<T> {
         return this;
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public SingleTypeEqualsVerifierApi<T> withListener(VerificationListener listener) {
+        Validations.validateNotNull(listener, "listener is null.");
+        listeners.add(listener);
+        return this;
+    }
+
     /** {@inheritDoc} */
     @Override
     public SingleTypeEqualsVerifierApi<T> withResetCaches() {
-        ObjenesisWrapper.reset();
+        Caches.reset();
         return this;
     }
 
@@ -328,20 +387,25 @@ public class SingleTypeEqualsVerifierApi<T> implements EqualsVerifierApi<T> {
     }
 
     public EqualsVerifierReport report(boolean showUrl) {
+        StatisticsCollector collector = StatisticsCollector.start(type);
         try {
             performVerification();
-            return EqualsVerifierReport.success(type);
+            return EqualsVerifierReport.success(type, collector.finish());
         } catch (MessagingException e) {
+            VerificationStatistics statistics = collector.finish();
             return EqualsVerifierReport.failure(
                 type,
                 buildErrorMessage(e.getDescription(), showUrl),
-                e
+                e,
+                statistics
             );
         } catch (Throwable e) {
+            VerificationStatistics statistics = collector.finish();
             return EqualsVerifierReport.failure(
                 type,
                 buildErrorMessage(e.getMessage(), showUrl),
-                e
+                e,
+                statistics
             );
         }
     }
@@ -363,17 +427,33 @@ public class SingleTypeEqualsVerifierApi<T> implements EqualsVerifierApi<T> {
         }
         Validations.validateClassCanBeVerified(type);
 
-        Configuration<T> config = buildConfig();
-        Validations.validateProcessedAnnotations(
-            type,
-            config.getAnnotationCache(),
-            warningsToSuppress,
-            allIncludedFields,
-            allExcludedFields
+        JfrEvent event = JfrEventType.CLASS_VERIFICATION.begin();
+        try {
+            performVerification(new ListenerNotifier(type, listeners));
+        } finally {
+            event.commit(type);
+        }
+    }
+
+    private void performVerification(ListenerNotifier notifier) {
+        Configuration<T> config = notifier.phase(Phase.BUILD_CONFIG, this::buildConfig);
+        notifier.phase(
+            Phase.VALIDATE_PROCESSED_ANNOTATIONS,
+            () ->
+                Validations.validateProcessedAnnotations(
+                    type,
+                    config.getAnnotationCache(),
+                    warningsToSuppress,
+                    allIncludedFields,
+                    allExcludedFields
+                )
         );
 
-        verifyWithoutExamples(config);
-        verifyWithExamples(config);
+        notifier.phase(
+            Phase.VERIFY_WITHOUT_EXAMPLES,
+            () -> verifyWithoutExamples(config, notifier)
+        );
+        notifier.phase(Phase.VERIFY_WITH_EXAMPLES, () -> verifyWithExamples(config, notifier));
     }
 
     private Configuration<T> buildConfig() {
@@ -388,14 +468,18 @@ public class SingleTypeEqualsVerifierApi<T> implements EqualsVerifierApi<T> {
             usingGetClass,
             warningsToSuppress,
             factoryCache,
+            sharedPrefabValueCache,
             ignoredAnnotationClassNames,
+            reflectiveAnnotationScanning,
+            fieldParallelism,
+            virtualThreads,
             actualFields,
             equalExamples,
             unequalExamples
         );
     }
 
-    private void verifyWithoutExamples(Configuration<T> config) {
+    private void verifyWithoutExamples(Configuration<T> config, ListenerNotifier notifier) {
         Checker[] checkers = {
             new SignatureChecker<>(config),
             new AbstractDelegationChecker<>(config),
@@ -404,20 +488,16 @@ public class SingleTypeEqualsVerifierApi<T> implements EqualsVerifierApi<T> {
             new CachedHashCodeChecker<>(config)
         };
 
-        for (Checker checker : checkers) {
-            checker.check();
-        }
+        notifier.check(checkers);
     }
 
-    private void verifyWithExamples(Configuration<T> config) {
+    private void verifyWithExamples(Configuration<T> config, ListenerNotifier notifier) {
         Checker[] checkers = {
             new ExamplesChecker<>(config),
             new HierarchyChecker<>(config),
             new FieldsChecker<>(config)
         };
 
-        for (Checker checker : checkers) {
-            checker.check();
-        }
+        notifier.check(checkers);
     }
 }
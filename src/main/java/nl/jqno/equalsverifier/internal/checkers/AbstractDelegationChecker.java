@@ -1,6 +1,7 @@
 package nl.jqno.equalsverifier.internal.checkers;
 
 import static nl.jqno.equalsverifier.internal.util.Assert.fail;
+import static nl.jqno.equalsverifier.internal.util.StatisticsCollector.invokeEquals;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import java.lang.reflect.Field;
@@ -110,7 +111,7 @@ public class AbstractDelegationChecker<T> implements Checker {
         boolean prefabPossible
     ) {
         try {
-            instance.equals(copy);
+            invokeEquals(instance, copy);
         } catch (AbstractMethodError e) {
             Formatter f = buildAbstractDelegationErrorMessage(
                 instanceClass,
@@ -1,6 +1,7 @@
 package nl.jqno.equalsverifier.internal.checkers;
 
 import static nl.jqno.equalsverifier.internal.util.Assert.*;
+import static nl.jqno.equalsverifier.internal.util.StatisticsCollector.invokeHashCode;
 
 import java.util.EnumSet;
 import nl.jqno.equalsverifier.Warning;
@@ -45,7 +46,7 @@ public class CachedHashCodeChecker<T> implements Checker {
             if (reference == null) {
                 fail(Formatter.of("Cached hashCode: example cannot be null."));
             }
-            int actualHashCode = reference.hashCode();
+            int actualHashCode = invokeHashCode(reference);
             int recomputedHashCode = cachedHashCodeInitializer.getInitializedHashCode(reference);
 
             assertEquals(
@@ -2,6 +2,7 @@ package nl.jqno.equalsverifier.internal.checkers;
 
 import static nl.jqno.equalsverifier.internal.util.Assert.*;
 import static nl.jqno.equalsverifier.internal.util.Rethrow.rethrow;
+import static nl.jqno.equalsverifier.internal.util.StatisticsCollector.invokeEquals;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import java.lang.reflect.Field;
@@ -76,7 +77,7 @@ public class ExamplesChecker<T> implements Checker {
                 reference,
                 other
             ),
-            reference.equals(other)
+            invokeEquals(reference, other)
         );
     }
 
@@ -91,10 +92,9 @@ public class ExamplesChecker<T> implements Checker {
 
     private void checkReflexivity(T reference) {
         try {
-            assertEquals(
+            assertTrue(
                 Formatter.of("Reflexivity: object does not equal itself:\n  %%", reference),
-                reference,
-                reference
+                invokeEquals(reference, reference)
             );
         } catch (ClassCastException e) {
             Formatter f = Formatter.of(
@@ -111,7 +111,7 @@ public class ExamplesChecker<T> implements Checker {
     )
     private void checkNonNullity(T reference) {
         try {
-            boolean nullity = reference.equals(null);
+            boolean nullity = invokeEquals(reference, null);
             assertFalse(Formatter.of("Non-nullity: true returned for null value"), nullity);
         } catch (NullPointerException e) {
             fail(Formatter.of("Non-nullity: NullPointerException thrown"), e);
@@ -125,7 +125,7 @@ public class ExamplesChecker<T> implements Checker {
                 "Type-check: equals returns true for an unrelated type.\n" +
                 "Add an instanceof or getClass() check."
             );
-            assertFalse(f, reference.equals(somethingElse));
+            assertFalse(f, invokeEquals(reference, somethingElse));
         } catch (AssertionException e) {
             throw e;
         } catch (ClassCastException e) {
@@ -155,7 +155,7 @@ public class ExamplesChecker<T> implements Checker {
             cachedHashCodeInitializer.getInitializedHashCode(reference)
         );
 
-        if (!reference.equals(copy)) {
+        if (!invokeEquals(reference, copy)) {
             return;
         }
 
@@ -1,17 +1,25 @@
 package nl.jqno.equalsverifier.internal.checkers;
 
-import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 import nl.jqno.equalsverifier.internal.checkers.fieldchecks.FieldCheck;
 import nl.jqno.equalsverifier.internal.prefabvalues.TypeTag;
 import nl.jqno.equalsverifier.internal.reflection.ClassAccessor;
 import nl.jqno.equalsverifier.internal.reflection.FieldAccessor;
-import nl.jqno.equalsverifier.internal.reflection.FieldIterable;
+import nl.jqno.equalsverifier.internal.reflection.FieldLayout;
 import nl.jqno.equalsverifier.internal.reflection.ObjectAccessor;
+import nl.jqno.equalsverifier.internal.reflection.SnapshotObjectAccessor;
 import nl.jqno.equalsverifier.internal.reflection.annotations.AnnotationCache;
+import nl.jqno.equalsverifier.internal.util.ParallelMapper;
+import nl.jqno.equalsverifier.internal.util.Scheduler;
 
 public class FieldInspector<T> {
 
+    private static final int CHUNKS_PER_THREAD = 4;
+
     private final ClassAccessor<T> classAccessor;
     private final TypeTag typeTag;
 
@@ -21,10 +29,9 @@ public class FieldInspector<T> {
     }
 
     public void check(FieldCheck<T> check) {
-        for (Field field : FieldIterable.of(classAccessor.getType())) {
+        for (FieldAccessor fieldAccessor : FieldLayout.of(classAccessor.getType()).getAllFields()) {
             ObjectAccessor<T> reference = classAccessor.getRedAccessor(typeTag);
             ObjectAccessor<T> copy = classAccessor.getRedAccessor(typeTag);
-            FieldAccessor fieldAccessor = FieldAccessor.of(field);
 
             check.execute(reference, copy, fieldAccessor);
         }
@@ -35,7 +42,7 @@ public class FieldInspector<T> {
         AnnotationCache annotationCache,
         FieldCheck<T> check
     ) {
-        for (Field field : FieldIterable.of(classAccessor.getType())) {
+        for (FieldAccessor fieldAccessor : FieldLayout.of(classAccessor.getType()).getAllFields()) {
             ObjectAccessor<T> reference = classAccessor.getDefaultValuesAccessor(
                 typeTag,
                 nonnullFields,
@@ -46,9 +53,230 @@ public class FieldInspector<T> {
                 nonnullFields,
                 annotationCache
             );
-            FieldAccessor fieldAccessor = FieldAccessor.of(field);
 
             check.execute(reference, changed, fieldAccessor);
         }
     }
+
+    /**
+     * Runs the given steps, as if {@link #check(FieldCheck)} or {@link #checkWithNull(Set,
+     * AnnotationCache, FieldCheck)} were called for each of them in turn, but in a single pass
+     * over the fields.
+     *
+     * <p>Instead of building two new objects for each field and for each check, the same two
+     * objects are restored between checks from a snapshot of their original state. The failure
+     * that is reported, is the one that the separate calls would have reported: the one for the
+     * earliest step, and within that step, for the earliest field. This includes a {@link
+     * StackOverflowError} in a step. Other {@link Error}s propagate right away.
+     *
+     * <p>Checks may modify static fields, which are never reset. Their values would then leak from
+     * one step into the next in a different order, so classes with static fields that can be
+     * modified are still checked one step at a time.
+     *
+     * @param steps The checks to run, in order.
+     */
+    public void checkInOnePass(List<Step<T>> steps) {
+        checkInOnePass(steps, 1, Scheduler.platformThreads());
+    }
+
+    /**
+     * Like {@link #checkInOnePass(List)}, but divides the fields into chunks that are checked on
+     * several threads at the same time. Each chunk gets its own objects. The failure that is
+     * reported, is still the one that a single thread would have reported.
+     *
+     * @param steps The checks to run, in order.
+     * @param parallelism The maximum number of threads to use.
+     * @param scheduler Creates the threads.
+     */
+    public void checkInOnePass(List<Step<T>> steps, int parallelism, Scheduler scheduler) {
+        List<FieldAccessor> fields = FieldLayout.of(classAccessor.getType()).getAllFields();
+        if (fields.stream().anyMatch(f -> f.fieldIsStatic() && f.canBeModifiedReflectively())) {
+            steps.forEach(this::checkSeparately);
+            return;
+        }
+
+        AtomicInteger bound = new AtomicInteger(steps.size());
+        List<Failure> failures = ParallelMapper.map(
+            chunk(fields, parallelism),
+            c -> checkChunk(steps, c, bound),
+            parallelism,
+            scheduler
+        );
+
+        Failure first = null;
+        for (Failure f : failures) {
+            if (f != null && (first == null || f.step < first.step)) {
+                first = f;
+            }
+        }
+        if (first != null) {
+            first.rethrow();
+        }
+    }
+
+    private static List<List<FieldAccessor>> chunk(List<FieldAccessor> fields, int parallelism) {
+        int chunks = parallelism == 1 ? 1 : parallelism * CHUNKS_PER_THREAD;
+        int size = Math.max(1, (fields.size() + chunks - 1) / chunks);
+        List<List<FieldAccessor>> result = new ArrayList<>();
+        for (int i = 0; i < fields.size(); i += size) {
+            result.add(fields.subList(i, Math.min(i + size, fields.size())));
+        }
+        return result;
+    }
+
+    /*
+     * Any failure in a chunk is the earliest failure of its step, for the fields in the chunk.
+     * Other chunks therefore only need to run the steps up to and including that step; the steps
+     * after it can't produce the failure that is reported.
+     */
+    private Failure checkChunk(
+        List<Step<T>> steps,
+        List<FieldAccessor> fields,
+        AtomicInteger bound
+    ) {
+        Fixture red = new Fixture(() -> classAccessor.getRedAccessor(typeTag));
+        Fixture defaults = null;
+        Failure failure = null;
+        for (FieldAccessor fieldAccessor : fields) {
+            int failedStep = failure == null ? steps.size() : failure.step;
+            for (int i = 0; i < failedStep && i <= bound.get(); i++) {
+                Step<T> step = steps.get(i);
+                Fixture fixture = red;
+                if (step.nullable) {
+                    if (defaults == null) {
+                        defaults = new Fixture(() -> defaultValuesAccessor(step));
+                    }
+                    fixture = defaults;
+                }
+
+                try {
+                    fixture.reset();
+                    step.check.execute(fixture.reference, fixture.copy, fieldAccessor);
+                } catch (RuntimeException | AbstractMethodError | StackOverflowError e) {
+                    // These are the failures that the checks report, including AssertionException,
+                    // and the StackOverflowError of a recursive equals or hashCode, which verify()
+                    // reports too. Any other Error, such as an OutOfMemoryError, propagates right
+                    // away.
+                    failure = new Failure(i, e);
+                    bound.accumulateAndGet(i, Math::min);
+                    break;
+                }
+            }
+        }
+        return failure;
+    }
+
+    private void checkSeparately(Step<T> step) {
+        if (step.nullable) {
+            checkWithNull(step.nonnullFields, step.annotationCache, step.check);
+        } else {
+            check(step.check);
+        }
+    }
+
+    private ObjectAccessor<T> defaultValuesAccessor(Step<T> step) {
+        return classAccessor.getDefaultValuesAccessor(
+            typeTag,
+            step.nonnullFields,
+            step.annotationCache
+        );
+    }
+
+    /**
+     * A {@link FieldCheck}, together with the kind of objects it should be executed on.
+     *
+     * @param <T> The type of the objects.
+     */
+    public static final class Step<T> {
+
+        private final FieldCheck<T> check;
+        private final boolean nullable;
+        private final Set<String> nonnullFields;
+        private final AnnotationCache annotationCache;
+
+        private Step(
+            FieldCheck<T> check,
+            boolean nullable,
+            Set<String> nonnullFields,
+            AnnotationCache annotationCache
+        ) {
+            this.check = check;
+            this.nullable = nullable;
+            this.nonnullFields = nonnullFields;
+            this.annotationCache = annotationCache;
+        }
+
+        /**
+         * A step that is executed like {@link FieldInspector#check(FieldCheck)}.
+         *
+         * @param <T> The type of the objects.
+         * @param check The check to execute.
+         * @return A step.
+         */
+        public static <T> Step<T> of(FieldCheck<T> check) {
+            return new Step<>(check, false, null, null);
+        }
+
+        /**
+         * A step that is executed like {@link FieldInspector#checkWithNull(Set, AnnotationCache,
+         * FieldCheck)}.
+         *
+         * @param <T> The type of the objects.
+         * @param nonnullFields Fields which are not allowed to be set to null.
+         * @param annotationCache To check for any NonNull annotations.
+         * @param check The check to execute.
+         * @return A step.
+         */
+        public static <T> Step<T> withNull(
+            Set<String> nonnullFields,
+            AnnotationCache annotationCache,
+            FieldCheck<T> check
+        ) {
+            return new Step<>(check, true, nonnullFields, annotationCache);
+        }
+    }
+
+    private static final class Failure {
+
+        private final int step;
+        private final Throwable cause;
+
+        private Failure(int step, Throwable cause) {
+            this.step = step;
+            this.cause = cause;
+        }
+
+        private void rethrow() {
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw (Error) cause;
+        }
+    }
+
+    /*
+     * The two objects that a check is executed on. They remember their original state, and are
+     * restored to it before each check.
+     */
+    private final class Fixture {
+
+        private final Supplier<ObjectAccessor<T>> factory;
+        private SnapshotObjectAccessor<T> reference;
+        private SnapshotObjectAccessor<T> copy;
+
+        private Fixture(Supplier<ObjectAccessor<T>> factory) {
+            this.factory = factory;
+        }
+
+        private void reset() {
+            if (reference == null) {
+                SnapshotObjectAccessor<T> r = SnapshotObjectAccessor.of(factory.get());
+                copy = SnapshotObjectAccessor.of(factory.get());
+                reference = r;
+            } else {
+                reference.restore();
+                copy.restore();
+            }
+        }
+    }
 }
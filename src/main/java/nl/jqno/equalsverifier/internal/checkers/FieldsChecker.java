@@ -1,7 +1,10 @@
 package nl.jqno.equalsverifier.internal.checkers;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.function.Predicate;
 import nl.jqno.equalsverifier.Warning;
+import nl.jqno.equalsverifier.internal.checkers.FieldInspector.Step;
 import nl.jqno.equalsverifier.internal.checkers.fieldchecks.*;
 import nl.jqno.equalsverifier.internal.prefabvalues.PrefabValues;
 import nl.jqno.equalsverifier.internal.prefabvalues.TypeTag;
@@ -57,36 +60,41 @@ public class FieldsChecker<T> implements Checker {
     public void check() {
         ClassAccessor<T> classAccessor = config.getClassAccessor();
         FieldInspector<T> inspector = new FieldInspector<>(classAccessor, config.getTypeTag());
+        List<Step<T>> steps = new ArrayList<>();
 
         if (!classAccessor.isEqualsInheritedFromObject()) {
-            inspector.check(arrayFieldCheck);
-            inspector.check(floatAndDoubleFieldCheck);
-            inspector.check(reflexivityFieldCheck);
+            steps.add(Step.of(arrayFieldCheck));
+            steps.add(Step.of(floatAndDoubleFieldCheck));
+            steps.add(Step.of(reflexivityFieldCheck));
         }
 
         if (!ignoreMutability(config.getType())) {
-            inspector.check(mutableStateFieldCheck);
+            steps.add(Step.of(mutableStateFieldCheck));
         }
 
         if (!config.getWarningsToSuppress().contains(Warning.TRANSIENT_FIELDS)) {
-            inspector.check(transientFieldsCheck);
+            steps.add(Step.of(transientFieldsCheck));
         }
 
-        inspector.check(significantFieldCheck);
-        inspector.check(symmetryFieldCheck);
-        inspector.check(transitivityFieldCheck);
+        steps.add(Step.of(significantFieldCheck));
+        steps.add(Step.of(symmetryFieldCheck));
+        steps.add(Step.of(transitivityFieldCheck));
 
         if (!config.getWarningsToSuppress().contains(Warning.NULL_FIELDS)) {
-            inspector.checkWithNull(
-                config.getNonnullFields(),
-                config.getAnnotationCache(),
-                skippingSignificantFieldCheck
+            steps.add(
+                Step.withNull(
+                    config.getNonnullFields(),
+                    config.getAnnotationCache(),
+                    skippingSignificantFieldCheck
+                )
             );
         }
 
         if (!config.getWarningsToSuppress().contains(Warning.BIGDECIMAL_EQUALITY)) {
-            inspector.check(bigDecimalFieldCheck);
+            steps.add(Step.of(bigDecimalFieldCheck));
         }
+
+        inspector.checkInOnePass(steps, config.getFieldParallelism(), config.getScheduler());
     }
 
     private boolean ignoreMutability(Class<?> type) {
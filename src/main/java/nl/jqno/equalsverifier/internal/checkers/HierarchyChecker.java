@@ -2,6 +2,7 @@ package nl.jqno.equalsverifier.internal.checkers;
 
 import static nl.jqno.equalsverifier.internal.util.Assert.*;
 import static nl.jqno.equalsverifier.internal.util.Rethrow.rethrow;
+import static nl.jqno.equalsverifier.internal.util.StatisticsCollector.invokeEquals;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import java.lang.reflect.Method;
@@ -74,7 +75,7 @@ public class HierarchyChecker<T> implements Checker {
             try {
                 assertFalse(
                     formatter,
-                    reference.equals(equalSuper) || equalSuper.equals(reference)
+                    invokeEquals(reference, equalSuper) || equalSuper.equals(reference)
                 );
             } catch (AbstractMethodError ignored) {
                 // In this case, we'll assume all super properties hold.
@@ -125,7 +126,10 @@ public class HierarchyChecker<T> implements Checker {
             reference,
             equalSuper
         );
-        assertTrue(symmetryFormatter, reference.equals(equalSuper) && equalSuper.equals(reference));
+        assertTrue(
+            symmetryFormatter,
+            invokeEquals(reference, equalSuper) && equalSuper.equals(reference)
+        );
 
         Formatter transitivityFormatter = Formatter.of(
             "Transitivity:\n" +
@@ -136,7 +140,8 @@ public class HierarchyChecker<T> implements Checker {
         );
         assertTrue(
             transitivityFormatter,
-            reference.equals(shallow) || reference.equals(equalSuper) != equalSuper.equals(shallow)
+            invokeEquals(reference, shallow) ||
+            invokeEquals(reference, equalSuper) != equalSuper.equals(shallow)
         );
 
         int referenceHashCode = cachedHashCodeInitializer.getInitializedHashCode(reference);
@@ -170,7 +175,7 @@ public class HierarchyChecker<T> implements Checker {
                 " equal fields:\n  %%\nThis should not happen when using getClass().",
                 reference
             );
-            assertFalse(formatter, reference.equals(equalSub));
+            assertFalse(formatter, invokeEquals(reference, equalSub));
         } else {
             Formatter formatter = Formatter.of(
                 "Subclass: object is not equal to an instance of a trivial subclass" +
@@ -179,7 +184,7 @@ public class HierarchyChecker<T> implements Checker {
                 " making the class final or use EqualsVerifier.simple().",
                 reference
             );
-            assertTrue(formatter, reference.equals(equalSub));
+            assertTrue(formatter, invokeEquals(reference, equalSub));
         }
     }
 
@@ -206,7 +211,7 @@ public class HierarchyChecker<T> implements Checker {
                 reference,
                 redefinedSub
             ),
-            reference.equals(redefinedSub)
+            invokeEquals(reference, redefinedSub)
         );
     }
 
@@ -2,6 +2,7 @@ package nl.jqno.equalsverifier.internal.checkers;
 
 import static nl.jqno.equalsverifier.internal.util.Assert.*;
 import static nl.jqno.equalsverifier.internal.util.Rethrow.rethrow;
+import static nl.jqno.equalsverifier.internal.util.StatisticsCollector.invokeEquals;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
@@ -45,7 +46,7 @@ public class RecordChecker<T> implements Checker {
         T original = originalAccessor.get();
         T copy = originalAccessor.copy();
 
-        if (original.equals(copy)) {
+        if (invokeEquals(original, copy)) {
             return;
         }
 
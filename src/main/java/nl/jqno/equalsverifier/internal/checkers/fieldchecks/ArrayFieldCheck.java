@@ -1,6 +1,8 @@
 package nl.jqno.equalsverifier.internal.checkers.fieldchecks;
 
 import static nl.jqno.equalsverifier.internal.util.Assert.assertEquals;
+import static nl.jqno.equalsverifier.internal.util.Assert.assertTrue;
+import static nl.jqno.equalsverifier.internal.util.StatisticsCollector.invokeEquals;
 
 import java.lang.reflect.Array;
 import java.lang.reflect.Field;
@@ -70,7 +72,7 @@ public class ArrayFieldCheck<T> implements FieldCheck<T> {
             " instead of Arrays.deepEquals() for field %%.",
             fieldName
         );
-        assertEquals(eqEqFormatter, reference, changed);
+        assertTrue(eqEqFormatter, invokeEquals(reference, changed));
 
         Formatter regularFormatter = Formatter.of(
             "Multidimensional array: regular hashCode() or Arrays.hashCode() used" +
@@ -85,13 +87,12 @@ public class ArrayFieldCheck<T> implements FieldCheck<T> {
     }
 
     private void assertArray(String fieldName, Object reference, Object changed) {
-        assertEquals(
+        assertTrue(
             Formatter.of(
                 "Array: == or regular equals() used instead of Arrays.equals() for field %%.",
                 fieldName
             ),
-            reference,
-            changed
+            invokeEquals(reference, changed)
         );
         assertEquals(
             Formatter.of(
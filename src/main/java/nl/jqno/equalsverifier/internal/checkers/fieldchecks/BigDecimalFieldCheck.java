@@ -1,6 +1,8 @@
 package nl.jqno.equalsverifier.internal.checkers.fieldchecks;
 
 import static nl.jqno.equalsverifier.internal.util.Assert.assertEquals;
+import static nl.jqno.equalsverifier.internal.util.Assert.assertTrue;
+import static nl.jqno.equalsverifier.internal.util.StatisticsCollector.invokeEquals;
 
 import java.lang.reflect.Field;
 import java.math.BigDecimal;
@@ -62,7 +64,7 @@ public class BigDecimalFieldCheck<T> implements FieldCheck<T> {
             changedField,
             Warning.BIGDECIMAL_EQUALITY
         );
-        assertEquals(f, left, right);
+        assertTrue(f, invokeEquals(left, right));
     }
 
     private void checkHashCode(
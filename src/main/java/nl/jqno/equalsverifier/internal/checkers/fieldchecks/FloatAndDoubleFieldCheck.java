@@ -1,6 +1,7 @@
 package nl.jqno.equalsverifier.internal.checkers.fieldchecks;
 
-import static nl.jqno.equalsverifier.internal.util.Assert.assertEquals;
+import static nl.jqno.equalsverifier.internal.util.Assert.assertTrue;
+import static nl.jqno.equalsverifier.internal.util.StatisticsCollector.invokeEquals;
 
 import java.lang.reflect.Field;
 import nl.jqno.equalsverifier.internal.reflection.FieldAccessor;
@@ -20,25 +21,23 @@ public class FloatAndDoubleFieldCheck<T> implements FieldCheck<T> {
         if (isFloat(type)) {
             T reference = referenceAccessor.withFieldSetTo(field, Float.NaN).get();
             T copy = copyAccessor.withFieldSetTo(field, Float.NaN).get();
-            assertEquals(
+            assertTrue(
                 Formatter.of(
                     "Float: equals doesn't use Float.compare for field %%.",
                     field.getName()
                 ),
-                reference,
-                copy
+                invokeEquals(reference, copy)
             );
         }
         if (isDouble(type)) {
             T reference = referenceAccessor.withFieldSetTo(field, Double.NaN).get();
             T copy = copyAccessor.withFieldSetTo(field, Double.NaN).get();
-            assertEquals(
+            assertTrue(
                 Formatter.of(
                     "Double: equals doesn't use Double.compare for field %%.",
                     field.getName()
                 ),
-                reference,
-                copy
+                invokeEquals(reference, copy)
             );
         }
     }
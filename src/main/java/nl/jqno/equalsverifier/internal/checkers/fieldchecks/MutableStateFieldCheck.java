@@ -1,6 +1,7 @@
 package nl.jqno.equalsverifier.internal.checkers.fieldchecks;
 
 import static nl.jqno.equalsverifier.internal.util.Assert.fail;
+import static nl.jqno.equalsverifier.internal.util.StatisticsCollector.invokeEquals;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import java.lang.reflect.Field;
@@ -45,9 +46,9 @@ public class MutableStateFieldCheck<T> implements FieldCheck<T> {
         T reference = referenceAccessor.get();
         T copy = copyAccessor.get();
 
-        boolean equalBefore = reference.equals(copy);
+        boolean equalBefore = invokeEquals(reference, copy);
         T changed = copyAccessor.withChangedField(field, prefabValues, typeTag).get();
-        boolean equalAfter = reference.equals(changed);
+        boolean equalAfter = invokeEquals(reference, changed);
 
         if (equalBefore && !equalAfter && !fieldAccessor.fieldIsFinal()) {
             String message =
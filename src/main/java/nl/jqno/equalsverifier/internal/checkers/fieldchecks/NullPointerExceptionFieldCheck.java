@@ -1,6 +1,7 @@
 package nl.jqno.equalsverifier.internal.checkers.fieldchecks;
 
 import static nl.jqno.equalsverifier.internal.util.Assert.fail;
+import static nl.jqno.equalsverifier.internal.util.StatisticsCollector.invokeEquals;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import java.lang.reflect.Field;
@@ -55,8 +56,8 @@ public class NullPointerExceptionFieldCheck<T> implements FieldCheck<T> {
     }
 
     private void performTests(Field field, final Object reference, final Object changed) {
-        handle("equals", field, () -> reference.equals(changed));
-        handle("equals", field, () -> changed.equals(reference));
+        handle("equals", field, () -> invokeEquals(reference, changed));
+        handle("equals", field, () -> invokeEquals(changed, reference));
         handle(
             "hashCode",
             field,
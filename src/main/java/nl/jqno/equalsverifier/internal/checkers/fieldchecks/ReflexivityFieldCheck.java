@@ -1,7 +1,8 @@
 package nl.jqno.equalsverifier.internal.checkers.fieldchecks;
 
-import static nl.jqno.equalsverifier.internal.util.Assert.assertEquals;
 import static nl.jqno.equalsverifier.internal.util.Assert.assertFalse;
+import static nl.jqno.equalsverifier.internal.util.Assert.assertTrue;
+import static nl.jqno.equalsverifier.internal.util.StatisticsCollector.invokeEquals;
 
 import java.lang.reflect.Field;
 import java.util.EnumSet;
@@ -9,7 +10,7 @@ import java.util.Set;
 import nl.jqno.equalsverifier.Warning;
 import nl.jqno.equalsverifier.internal.prefabvalues.PrefabValues;
 import nl.jqno.equalsverifier.internal.prefabvalues.TypeTag;
-import nl.jqno.equalsverifier.internal.reflection.ClassAccessor;
+import nl.jqno.equalsverifier.internal.reflection.ClassDescriptor;
 import nl.jqno.equalsverifier.internal.reflection.FieldAccessor;
 import nl.jqno.equalsverifier.internal.reflection.ObjectAccessor;
 import nl.jqno.equalsverifier.internal.reflection.annotations.AnnotationCache;
@@ -73,8 +74,7 @@ public class ReflexivityFieldCheck<T> implements FieldCheck<T> {
         if (fieldAccessor.fieldIsStatic()) {
             return;
         }
-        ClassAccessor<?> fieldTypeAccessor = ClassAccessor.of(fieldType, prefabValues);
-        if (!fieldTypeAccessor.declaresEquals()) {
+        if (!ClassDescriptor.of(fieldType).declaresEquals()) {
             return;
         }
         if (fieldType.isSynthetic()) {
@@ -92,7 +92,7 @@ public class ReflexivityFieldCheck<T> implements FieldCheck<T> {
             field.getName(),
             Warning.REFERENCE_EQUALITY.toString()
         );
-        assertEquals(f, left, right);
+        assertTrue(f, invokeEquals(left, right));
     }
 
     private void checkNullReflexivity(
@@ -120,7 +120,7 @@ public class ReflexivityFieldCheck<T> implements FieldCheck<T> {
                 "Unnecessary suppression: %%. Two identical copies are equal.",
                 Warning.IDENTICAL_COPY.toString()
             );
-            assertFalse(f, left.equals(right));
+            assertFalse(f, invokeEquals(left, right));
         } else {
             Formatter f = Formatter.of(
                 "Reflexivity: object does not equal an identical copy of itself:\n  %%" +
@@ -128,7 +128,7 @@ public class ReflexivityFieldCheck<T> implements FieldCheck<T> {
                 left,
                 Warning.IDENTICAL_COPY.toString()
             );
-            assertEquals(f, left, right);
+            assertTrue(f, invokeEquals(left, right));
         }
     }
 }
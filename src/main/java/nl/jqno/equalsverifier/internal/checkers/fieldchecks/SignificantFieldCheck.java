@@ -2,6 +2,8 @@ package nl.jqno.equalsverifier.internal.checkers.fieldchecks;
 
 import static nl.jqno.equalsverifier.internal.util.Assert.assertFalse;
 import static nl.jqno.equalsverifier.internal.util.Assert.assertTrue;
+import static nl.jqno.equalsverifier.internal.util.StatisticsCollector.invokeEquals;
+import static nl.jqno.equalsverifier.internal.util.StatisticsCollector.invokeHashCode;
 
 import java.lang.reflect.Field;
 import java.util.EnumSet;
@@ -62,11 +64,11 @@ public class SignificantFieldCheck<T> implements FieldCheck<T> {
         T copy = copyAccessor.get();
         String fieldName = field.getName();
 
-        boolean equalToItself = reference.equals(copy);
+        boolean equalToItself = invokeEquals(reference, copy);
 
         T changed = copyAccessor.withChangedField(field, prefabValues, typeTag).get();
 
-        boolean equalsChanged = !reference.equals(changed);
+        boolean equalsChanged = !invokeEquals(reference, changed);
         boolean hashCodeChanged =
             cachedHashCodeInitializer.getInitializedHashCode(reference) !=
             cachedHashCodeInitializer.getInitializedHashCode(changed);
@@ -100,9 +102,9 @@ public class SignificantFieldCheck<T> implements FieldCheck<T> {
                     "\n  %% has hashCode %%\n  %% has hashCode %%",
                     fieldName,
                     reference,
-                    reference.hashCode(),
+                    invokeHashCode(reference),
                     changed,
-                    changed.hashCode()
+                    invokeHashCode(changed)
                 );
                 assertFalse(formatter, equalsChanged);
             }
@@ -1,6 +1,7 @@
 package nl.jqno.equalsverifier.internal.checkers.fieldchecks;
 
 import static nl.jqno.equalsverifier.internal.util.Assert.assertTrue;
+import static nl.jqno.equalsverifier.internal.util.StatisticsCollector.invokeEquals;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import java.lang.reflect.Field;
@@ -57,7 +58,7 @@ public class SymmetryFieldCheck<T> implements FieldCheck<T> {
         T right = copyAccessor.get();
         assertTrue(
             Formatter.of("Symmetry: objects are not symmetric:\n  %%\nand\n  %%", left, right),
-            left.equals(right) == right.equals(left)
+            invokeEquals(left, right) == invokeEquals(right, left)
         );
     }
 }
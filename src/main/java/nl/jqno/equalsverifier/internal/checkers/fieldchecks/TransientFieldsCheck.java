@@ -1,6 +1,7 @@
 package nl.jqno.equalsverifier.internal.checkers.fieldchecks;
 
 import static nl.jqno.equalsverifier.internal.util.Assert.fail;
+import static nl.jqno.equalsverifier.internal.util.StatisticsCollector.invokeEquals;
 
 import java.lang.reflect.Field;
 import nl.jqno.equalsverifier.internal.prefabvalues.PrefabValues;
@@ -34,7 +35,7 @@ public class TransientFieldsCheck<T> implements FieldCheck<T> {
         T reference = referenceAccessor.get();
         T changed = copyAccessor.withChangedField(field, prefabValues, typeTag).get();
 
-        boolean equalsChanged = !reference.equals(changed);
+        boolean equalsChanged = !invokeEquals(reference, changed);
         boolean hasAnnotation = annotationCache.hasFieldAnnotation(
             typeTag.getType(),
             field.getName(),
@@ -1,6 +1,7 @@
 package nl.jqno.equalsverifier.internal.checkers.fieldchecks;
 
 import static nl.jqno.equalsverifier.internal.util.Assert.fail;
+import static nl.jqno.equalsverifier.internal.util.StatisticsCollector.invokeEquals;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import java.lang.reflect.Field;
@@ -36,9 +37,9 @@ public class TransitivityFieldCheck<T> implements FieldCheck<T> {
         T b1 = buildB1(copyAccessor, field);
         T b2 = buildB2(referenceAccessor, field);
 
-        boolean x = a1.equals(b1);
-        boolean y = b1.equals(b2);
-        boolean z = a1.equals(b2);
+        boolean x = invokeEquals(a1, b1);
+        boolean y = invokeEquals(b1, b2);
+        boolean z = invokeEquals(a1, b2);
 
         if (countFalses(x, y, z) == 1) {
             fail(
@@ -2,7 +2,7 @@ package nl.jqno.equalsverifier.internal.exceptions;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import java.util.Iterator;
-import java.util.LinkedHashSet;
+import nl.jqno.equalsverifier.internal.prefabvalues.TypeStack;
 import nl.jqno.equalsverifier.internal.prefabvalues.TypeTag;
 
 /** Signals that a recursion has been detected while traversing the fields of a data structure. */
@@ -10,7 +10,7 @@ import nl.jqno.equalsverifier.internal.prefabvalues.TypeTag;
 @SuppressFBWarnings(value = "SE_BAD_FIELD", justification = "EqualsVerifier doesn't serialize.")
 public class RecursionException extends MessagingException {
 
-    private final LinkedHashSet<TypeTag> typeStack;
+    private final TypeStack typeStack;
 
     /**
      * Constructor.
@@ -18,11 +18,7 @@ public class RecursionException extends MessagingException {
      * @param typeStack A collection of types that have been encountered prior to detecting the
      *     recursion.
      */
-    @SuppressFBWarnings(
-        value = "EI_EXPOSE_REP2",
-        justification = "There's no such thing as an UnmodifiableLinkedHashSet and we need the ordering."
-    )
-    public RecursionException(LinkedHashSet<TypeTag> typeStack) {
+    public RecursionException(TypeStack typeStack) {
         super();
         this.typeStack = typeStack;
     }
@@ -1,13 +1,18 @@
 package nl.jqno.equalsverifier.internal.prefabvalues;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
-/** Contains a cache of prefabricated values, for {@link PrefabValues}. */
+/**
+ * Contains a cache of prefabricated values, for {@link PrefabValues}.
+ *
+ * <p>The cache can be read and filled by several threads at the same time, when the fields of a
+ * class are checked in parallel.
+ */
 class Cache {
 
     @SuppressWarnings("rawtypes")
-    private final Map<TypeTag, Tuple> cache = new HashMap<>();
+    private final Map<TypeTag, Tuple> cache = new ConcurrentHashMap<>();
 
     /**
      * Adds a prefabricated value to the cache for the given type.
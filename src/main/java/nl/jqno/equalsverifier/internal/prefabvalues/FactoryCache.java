@@ -1,9 +1,14 @@
 package nl.jqno.equalsverifier.internal.prefabvalues;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import nl.jqno.equalsverifier.internal.prefabvalues.factories.PrefabValueFactory;
+import nl.jqno.equalsverifier.internal.util.ClassCache;
 
 /** Contains a cache of factories, for {@link PrefabValues}. */
 public class FactoryCache implements Iterable<Map.Entry<String, PrefabValueFactory<?>>> {
@@ -12,7 +17,44 @@ public class FactoryCache implements Iterable<Map.Entry<String, PrefabValueFacto
      * We store Strings instead of Classes, so that the cache can be lazy and initializers won't be
      * called until the class is actually needed.
      */
-    private final Map<String, PrefabValueFactory<?>> cache = new HashMap<>();
+    private final Map<String, PrefabValueFactory<?>> cache;
+
+    /**
+     * Factories that are not found in {@link #cache}, are looked up here. Is {@code null} if there
+     * is nothing to fall back to.
+     */
+    private final FactoryCache fallback;
+
+    /** Whether neither {@link #cache} nor {@link #fallback} can change anymore. */
+    private final boolean frozen;
+
+    /**
+     * If the cache is {@link #frozen}, the result of looking up a class in {@link #cache} can't
+     * change anymore, so it's resolved only once per class, including when it's not there. Is
+     * {@code null} if the cache isn't frozen.
+     *
+     * <p>The lookup is keyed on classes that are already loaded by the time they're looked up, so
+     * {@link #cache} can still be lazy.
+     */
+    private final ClassCache<Optional<PrefabValueFactory<?>>> resolved;
+
+    /** Creates an empty, mutable {@code FactoryCache}. */
+    public FactoryCache() {
+        this(new HashMap<>(), null, false);
+    }
+
+    private FactoryCache(
+        Map<String, PrefabValueFactory<?>> cache,
+        FactoryCache fallback,
+        boolean frozen
+    ) {
+        this.cache = cache;
+        this.fallback = fallback;
+        this.frozen = frozen;
+        this.resolved = frozen
+            ? new ClassCache<>(type -> Optional.ofNullable(cache.get(type.getName())))
+            : null;
+    }
 
     /**
      * Adds the given factory to the cache and associates it with the given type.
@@ -43,9 +85,6 @@ public class FactoryCache implements Iterable<Map.Entry<String, PrefabValueFacto
     /**
      * Retrieves the factory from the cache for the given type.
      *
-     * <p>What happens when there is no factory, is undefined. Always call {@link #contains(Class)}
-     * first.
-     *
      * @param <T> The returned factory will have this as generic type.
      * @param type The type for which a factory is needed.
      * @return A factory for the given type, or {@code null} if none is available.
@@ -55,7 +94,7 @@ public class FactoryCache implements Iterable<Map.Entry<String, PrefabValueFacto
         if (type == null) {
             return null;
         }
-        return (PrefabValueFactory<T>) cache.get(type.getName());
+        return (PrefabValueFactory<T>) lookup(type);
     }
 
     /**
@@ -63,7 +102,17 @@ public class FactoryCache implements Iterable<Map.Entry<String, PrefabValueFacto
      * @return Whether a factory is available for the given type.
      */
     public boolean contains(Class<?> type) {
-        return cache.containsKey(type.getName());
+        return lookup(type) != null;
+    }
+
+    private PrefabValueFactory<?> lookup(Class<?> type) {
+        PrefabValueFactory<?> result = resolved == null
+            ? cache.get(type.getName())
+            : resolved.get(type).orElse(null);
+        if (result == null && fallback != null) {
+            return fallback.lookup(type);
+        }
+        return result;
     }
 
     /**
@@ -80,6 +129,55 @@ public class FactoryCache implements Iterable<Map.Entry<String, PrefabValueFacto
         return result;
     }
 
+    /**
+     * Returns an immutable copy of {@code this}, which can safely be shared between threads, as
+     * long as the factories it contains can be.
+     *
+     * @return An immutable copy of {@code this}.
+     */
+    public FactoryCache freeze() {
+        return new FactoryCache(Collections.unmodifiableMap(flatten()), null, true);
+    }
+
+    /**
+     * Returns a read-only view that looks up factories in {@code overlay} first, and in {@code
+     * this} when {@code overlay} doesn't contain them. Unlike {@link #merge(FactoryCache)}, nothing
+     * is copied, so this is cheap even if {@code this} is large.
+     *
+     * @param overlay The cache whose factories take precedence over those in {@code this}.
+     * @return A read-only view on both caches.
+     */
+    public FactoryCache withOverlay(FactoryCache overlay) {
+        FactoryCache base = overlay.fallback == null ? this : withOverlay(overlay.fallback);
+        return new FactoryCache(Collections.unmodifiableMap(overlay.cache), base, false);
+    }
+
+    /**
+     * Returns a key that identifies the factories in this cache. The identities of two caches are
+     * equal if, and only if, they associate the same types with the same factory instances, so it
+     * can be used to share values that were created with these factories.
+     *
+     * <p>Later changes to this cache do not affect the returned key.
+     *
+     * @return A key that identifies the factories in this cache.
+     */
+    public Object identity() {
+        if (frozen) {
+            return this;
+        }
+        Object fallbackIdentity = fallback == null ? null : fallback.identity();
+        return new Identity(fallbackIdentity, new HashMap<>(cache));
+    }
+
+    private Map<String, PrefabValueFactory<?>> flatten() {
+        Map<String, PrefabValueFactory<?>> result = new LinkedHashMap<>();
+        if (fallback != null) {
+            result.putAll(fallback.flatten());
+        }
+        result.putAll(cache);
+        return result;
+    }
+
     private void copy(FactoryCache to, FactoryCache from) {
         for (Map.Entry<String, PrefabValueFactory<?>> entry : from) {
             to.put(entry.getKey(), entry.getValue());
@@ -89,6 +187,53 @@ public class FactoryCache implements Iterable<Map.Entry<String, PrefabValueFacto
     /** Provides an iterator over all available factories. */
     @Override
     public Iterator<Map.Entry<String, PrefabValueFactory<?>>> iterator() {
-        return cache.entrySet().iterator();
+        if (fallback == null) {
+            return cache.entrySet().iterator();
+        }
+        return flatten().entrySet().iterator();
+    }
+
+    private static final class Identity {
+
+        private final Object fallbackIdentity;
+        private final Map<String, PrefabValueFactory<?>> factories;
+        private final int hashCode;
+
+        private Identity(Object fallbackIdentity, Map<String, PrefabValueFactory<?>> factories) {
+            this.fallbackIdentity = fallbackIdentity;
+            this.factories = factories;
+
+            int h = Objects.hashCode(fallbackIdentity);
+            for (Map.Entry<String, PrefabValueFactory<?>> e : factories.entrySet()) {
+                h += e.getKey().hashCode() ^ System.identityHashCode(e.getValue());
+            }
+            this.hashCode = h;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof Identity)) {
+                return false;
+            }
+            Identity other = (Identity) obj;
+            if (
+                hashCode != other.hashCode ||
+                !Objects.equals(fallbackIdentity, other.fallbackIdentity) ||
+                factories.size() != other.factories.size()
+            ) {
+                return false;
+            }
+            for (Map.Entry<String, PrefabValueFactory<?>> e : factories.entrySet()) {
+                if (other.factories.get(e.getKey()) != e.getValue()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
     }
 }
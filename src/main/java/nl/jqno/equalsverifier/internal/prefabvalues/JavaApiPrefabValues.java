@@ -53,21 +53,26 @@ public final class JavaApiPrefabValues {
         "AwtFactoryProvider"
     );
     private static final ExternalFactory<?> JAVAFX_FACTORY = new ExternalFactory<>(
-        "JavaFxFactoryProvider"
+        "JavaFxFactoryProvider",
+        JAVAFX_COLLECTIONS_PACKAGE + "ObservableList"
     );
     private static final ExternalFactory<?> JAVAX_FACTORY = new ExternalFactory<>(
         "JavaxFactoryProvider"
     );
     private static final ExternalFactory<?> GUAVA_FACTORY = new ExternalFactory<>(
-        "GuavaFactoryProvider"
+        "GuavaFactoryProvider",
+        GUAVA_PACKAGE + "Multiset"
     );
     private static final ExternalFactory<?> JODA_FACTORY = new ExternalFactory<>(
-        "JodaFactoryProvider"
+        "JodaFactoryProvider",
+        JODA_PACKAGE + "Chronology"
     );
     private static final ExternalFactory<?> RMI_FACTORY = new ExternalFactory<>(
         "RmiFactoryProvider"
     );
 
+    private static volatile FactoryCache frozen;
+
     private static final Comparator<Object> OBJECT_COMPARATOR = Comparator.comparingInt(
         Object::hashCode
     );
@@ -96,6 +101,58 @@ public final class JavaApiPrefabValues {
         return result;
     }
 
+    /**
+     * Returns a frozen FactoryCache with the same content as {@link #build()}, together with the
+     * values of any {@link nl.jqno.equalsverifier.PrefabValueProvider}s on the classpath. Values
+     * that a provider adds for a type that {@link #build()} already covers, are ignored. The cache
+     * is built only once, until {@link #reset()} is called, and shared by all verifications, so it
+     * must not be modified; use {@link FactoryCache#withOverlay(FactoryCache)} to add more
+     * factories.
+     *
+     * <p>If a provider fails, the cache isn't built, and the next call tries again, so that each
+     * verification reports the failure.
+     *
+     * @return A shared, immutable, pre-populated {@link FactoryCache}.
+     */
+    public static FactoryCache frozen() {
+        FactoryCache result = frozen;
+        if (result == null) {
+            synchronized (JavaApiPrefabValues.class) {
+                result = frozen;
+                if (result == null) {
+                    FactoryCache provided = new FactoryCache();
+                    PrefabValueProviders.addTo(provided);
+                    result = provided.merge(build()).freeze();
+                    frozen = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Forgets the cache that {@link #frozen()} returns, so that the next call builds it again and
+     * discovers the {@link nl.jqno.equalsverifier.PrefabValueProvider}s anew.
+     */
+    public static void reset() {
+        synchronized (JavaApiPrefabValues.class) {
+            frozen = null;
+        }
+    }
+
+    /**
+     * Loads the factories for the libraries that are on the classpath, such as Guava and
+     * Joda-Time, so that verifications that run at the same time don't have to wait for each other
+     * while one of them loads them. The factories for Java's own AWT, javax and RMI classes are
+     * left to be loaded when they're first needed: they're always on the classpath, and rarely
+     * used.
+     */
+    public static void prewarm() {
+        JAVAFX_FACTORY.prewarm();
+        GUAVA_FACTORY.prewarm();
+        JODA_FACTORY.prewarm();
+    }
+
     private void addJavaClasses() {
         addPrimitiveClasses();
         addCommonClasses();
@@ -0,0 +1,88 @@
+package nl.jqno.equalsverifier.internal.prefabvalues;
+
+import java.util.Iterator;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import nl.jqno.equalsverifier.Func.Func1;
+import nl.jqno.equalsverifier.Func.Func2;
+import nl.jqno.equalsverifier.PrefabValueProvider;
+import nl.jqno.equalsverifier.internal.exceptions.ReflectionException;
+import nl.jqno.equalsverifier.internal.util.PrefabValuesApi;
+
+/** Discovers the {@link PrefabValueProvider}s on the classpath, and collects their values. */
+public final class PrefabValueProviders {
+
+    /** Do not instantiate. */
+    private PrefabValueProviders() {}
+
+    /**
+     * Adds the values of all {@link PrefabValueProvider}s that can be found through the
+     * ClassLoader that loaded EqualsVerifier to the given cache.
+     *
+     * <p>The context ClassLoader of the current thread isn't used: the values are shared by all
+     * verifications, so they shouldn't depend on the thread that happens to need them first.
+     *
+     * @param factoryCache The cache to add the values to.
+     * @throws ReflectionException If a provider can't be loaded, or fails to add its values.
+     */
+    public static void addTo(FactoryCache factoryCache) {
+        Iterator<PrefabValueProvider> providers = ServiceLoader
+            .load(PrefabValueProvider.class, PrefabValueProvider.class.getClassLoader())
+            .iterator();
+        Registry registry = new Registry(factoryCache);
+        while (hasNext(providers)) {
+            PrefabValueProvider provider = next(providers);
+            try {
+                provider.addPrefabValues(registry);
+            } catch (RuntimeException e) {
+                throw new ReflectionException(
+                    "PrefabValueProvider " + provider.getClass().getName() + " failed: " + e,
+                    e
+                );
+            }
+        }
+    }
+
+    private static boolean hasNext(Iterator<PrefabValueProvider> providers) {
+        try {
+            return providers.hasNext();
+        } catch (ServiceConfigurationError e) {
+            throw new ReflectionException("Could not load PrefabValueProvider: " + e, e);
+        }
+    }
+
+    private static PrefabValueProvider next(Iterator<PrefabValueProvider> providers) {
+        try {
+            return providers.next();
+        } catch (ServiceConfigurationError e) {
+            throw new ReflectionException("Could not load PrefabValueProvider: " + e, e);
+        }
+    }
+
+    private static final class Registry implements PrefabValueProvider.Registry {
+
+        private final FactoryCache factoryCache;
+
+        private Registry(FactoryCache factoryCache) {
+            this.factoryCache = factoryCache;
+        }
+
+        @Override
+        public <S> Registry withPrefabValues(Class<S> otherType, S red, S blue) {
+            PrefabValuesApi.addPrefabValues(factoryCache, otherType, red, blue);
+            return this;
+        }
+
+        @Override
+        public <S> Registry withGenericPrefabValues(Class<S> otherType, Func1<?, S> factory) {
+            PrefabValuesApi.addGenericPrefabValues(factoryCache, otherType, factory);
+            return this;
+        }
+
+        @Override
+        public <S> Registry withGenericPrefabValues(Class<S> otherType, Func2<?, ?, S> factory) {
+            PrefabValuesApi.addGenericPrefabValues(factoryCache, otherType, factory);
+            return this;
+        }
+    }
+}
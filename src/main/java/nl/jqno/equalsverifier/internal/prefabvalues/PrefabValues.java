@@ -2,12 +2,14 @@ package nl.jqno.equalsverifier.internal.prefabvalues;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import java.util.Arrays;
-import java.util.LinkedHashSet;
 import nl.jqno.equalsverifier.internal.exceptions.RecursionException;
 import nl.jqno.equalsverifier.internal.exceptions.ReflectionException;
 import nl.jqno.equalsverifier.internal.prefabvalues.factories.FallbackFactory;
 import nl.jqno.equalsverifier.internal.prefabvalues.factories.PrefabValueFactory;
+import nl.jqno.equalsverifier.internal.util.JfrEvent;
+import nl.jqno.equalsverifier.internal.util.JfrEventType;
 import nl.jqno.equalsverifier.internal.util.PrimitiveMappers;
+import nl.jqno.equalsverifier.internal.util.StatisticsCollector;
 
 /**
  * Container and creator of prefabricated instances of objects and classes.
@@ -20,15 +22,31 @@ public class PrefabValues {
     private final Cache cache = new Cache();
     private final FactoryCache factoryCache;
     private final PrefabValueFactory<?> fallbackFactory = new FallbackFactory<>();
+    private final SharedCache sharedCache;
+    private final Object factoryCacheIdentity;
 
     /**
      * Constructor.
      *
      * @param factoryCache The factories that can be used to create values.
      */
-    @SuppressFBWarnings(value = "EI_EXPOSE_REP2", justification = "A cache is inherently mutable.")
     public PrefabValues(FactoryCache factoryCache) {
+        this(factoryCache, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param factoryCache The factories that can be used to create values.
+     * @param sharedCache Values that were created by earlier verifications, and that can be
+     *     re-used if they were created by the same factories. May be {@code null}, in which case
+     *     all values are created from scratch.
+     */
+    @SuppressFBWarnings(value = "EI_EXPOSE_REP2", justification = "A cache is inherently mutable.")
+    public PrefabValues(FactoryCache factoryCache, SharedCache sharedCache) {
         this.factoryCache = factoryCache;
+        this.sharedCache = sharedCache;
+        this.factoryCacheIdentity = sharedCache == null ? null : factoryCache.identity();
     }
 
     /**
@@ -123,8 +141,8 @@ public class PrefabValues {
         return Arrays.deepEquals(new Object[] { x }, new Object[] { y });
     }
 
-    private LinkedHashSet<TypeTag> emptyStack() {
-        return new LinkedHashSet<>();
+    private TypeStack emptyStack() {
+        return TypeStack.empty();
     }
 
     /**
@@ -135,27 +153,54 @@ public class PrefabValues {
      * @param tag A description of the desired type, including generic parameters.
      * @param typeStack Keeps track of recursion in the type.
      */
-    public <T> void realizeCacheFor(TypeTag tag, LinkedHashSet<TypeTag> typeStack) {
-        if (!cache.contains(tag)) {
-            Tuple<T> tuple = createTuple(tag, typeStack);
-            addToCache(tag, tuple);
+    public <T> void realizeCacheFor(TypeTag tag, TypeStack typeStack) {
+        if (cache.contains(tag)) {
+            return;
+        }
+        // Checks on several threads can ask for the same type at the same time. They must all get
+        // the same values, since values are sometimes compared by identity. Creating them can
+        // recurse into this method for other types, on the same thread.
+        synchronized (cache) {
+            if (!cache.contains(tag)) {
+                Tuple<T> tuple = fromSharedCache(tag);
+                if (tuple == null) {
+                    tuple = createTuple(tag, typeStack);
+                    StatisticsCollector.countPrefabTupleCreated();
+                    if (sharedCache != null) {
+                        sharedCache.put(factoryCacheIdentity, tag, tuple);
+                    }
+                }
+                addToCache(tag, tuple);
+            }
         }
     }
 
-    private <T> Tuple<T> createTuple(TypeTag tag, LinkedHashSet<TypeTag> typeStack) {
+    private <T> Tuple<T> fromSharedCache(TypeTag tag) {
+        if (sharedCache == null) {
+            return null;
+        }
+        return sharedCache.get(factoryCacheIdentity, tag);
+    }
+
+    private <T> Tuple<T> createTuple(TypeTag tag, TypeStack typeStack) {
         if (typeStack.contains(tag)) {
             throw new RecursionException(typeStack);
         }
 
         Class<T> type = tag.getType();
-        if (factoryCache.contains(type)) {
-            PrefabValueFactory<T> factory = factoryCache.get(type);
-            return factory.createValues(tag, this, typeStack);
+        PrefabValueFactory<T> factory = factoryCache.get(type);
+        JfrEvent event = JfrEventType.PREFAB_CREATION.begin();
+        try {
+            if (factory != null) {
+                return factory.createValues(tag, this, typeStack);
+            }
+
+            @SuppressWarnings("unchecked")
+            Tuple<T> result = (Tuple<T>) fallbackFactory.createValues(tag, this, typeStack);
+            return result;
+        } finally {
+            event.commit(tag, factory != null ? factory.getClass() : fallbackFactory.getClass());
         }
-
-        @SuppressWarnings("unchecked")
-        Tuple<T> result = (Tuple<T>) fallbackFactory.createValues(tag, this, typeStack);
-        return result;
     }
 
     private void addToCache(TypeTag tag, Tuple<?> tuple) {
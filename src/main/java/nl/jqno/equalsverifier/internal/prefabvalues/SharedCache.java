@@ -0,0 +1,123 @@
+package nl.jqno.equalsverifier.internal.prefabvalues;
+
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Contains a cache of prefabricated values that is shared between verifications, so values that
+ * are needed by many classes under test don't have to be created again for each of them.
+ *
+ * <p>Values are keyed by their {@link TypeTag} and by the {@link FactoryCache#identity()} of the
+ * factories that were used to create them. The cache is bounded: when it grows too large, the
+ * oldest values are evicted first.
+ */
+public final class SharedCache {
+
+    private static final int DEFAULT_MAX_SIZE = 4096;
+    private static final SharedCache INSTANCE = new SharedCache(DEFAULT_MAX_SIZE);
+
+    private final int maxSize;
+    private final ConcurrentMap<Key, Tuple<?>> cache = new ConcurrentHashMap<>();
+    private final Queue<Key> insertionOrder = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Constructor.
+     *
+     * @param maxSize The maximum number of values to keep.
+     */
+    public SharedCache(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Returns the instance that is shared by all verifications.
+     *
+     * @return The instance that is shared by all verifications.
+     */
+    public static SharedCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns the {@link Tuple} of prefabricated values for the given type, if it was created
+     * earlier with the same factories.
+     *
+     * @param <T> The type of the Tuple.
+     * @param factoryCacheIdentity The identity of the factories that are used to create values.
+     * @param tag A description of the type. Takes generics into account.
+     * @return A Tuple of type T, or {@code null} if there is none.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Tuple<T> get(Object factoryCacheIdentity, TypeTag tag) {
+        return (Tuple<T>) cache.get(new Key(factoryCacheIdentity, tag));
+    }
+
+    /**
+     * Adds a {@link Tuple} of prefabricated values for the given type, unless there is one
+     * already. Evicts the oldest values if the cache grows too large.
+     *
+     * @param factoryCacheIdentity The identity of the factories that were used to create the
+     *     values.
+     * @param tag A description of the type. Takes generics into account.
+     * @param tuple The prefabricated values.
+     */
+    public void put(Object factoryCacheIdentity, TypeTag tag, Tuple<?> tuple) {
+        Key key = new Key(factoryCacheIdentity, tag);
+        if (cache.putIfAbsent(key, tuple) == null) {
+            insertionOrder.add(key);
+            evict();
+        }
+    }
+
+    private void evict() {
+        while (cache.size() > maxSize) {
+            Key oldest = insertionOrder.poll();
+            if (oldest == null) {
+                return;
+            }
+            cache.remove(oldest);
+        }
+    }
+
+    /** @return The number of values in the cache. */
+    public int size() {
+        return cache.size();
+    }
+
+    /** Removes all values from the cache. */
+    public void clear() {
+        cache.clear();
+        insertionOrder.clear();
+    }
+
+    private static final class Key {
+
+        private final Object factoryCacheIdentity;
+        private final TypeTag tag;
+
+        private Key(Object factoryCacheIdentity, TypeTag tag) {
+            this.factoryCacheIdentity = factoryCacheIdentity;
+            this.tag = tag;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) obj;
+            return (
+                tag.equals(other.tag) &&
+                Objects.equals(factoryCacheIdentity, other.factoryCacheIdentity)
+            );
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * Objects.hashCode(factoryCacheIdentity) + tag.hashCode();
+        }
+    }
+}
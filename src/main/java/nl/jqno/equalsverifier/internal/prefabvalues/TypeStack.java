@@ -0,0 +1,102 @@
+package nl.jqno.equalsverifier.internal.prefabvalues;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+
+/**
+ * An immutable stack of {@link TypeTag}s, used to detect recursion while creating prefab values.
+ *
+ * <p>Pushing a type shares the rest of the stack instead of copying it, so it takes constant time
+ * no matter how deeply nested the type is. Each stack also keeps a small bit mask of the hash codes
+ * of its types, so that checking for a type that isn't on the stack usually doesn't have to walk
+ * it.
+ *
+ * <p>Iterating over a stack gives its types in the order in which they were pushed.
+ */
+public final class TypeStack implements Iterable<TypeTag> {
+
+    private static final TypeStack EMPTY = new TypeStack(null, null, 0L, 0);
+
+    private final TypeTag top;
+    private final TypeStack rest;
+    private final long mask;
+    private final int size;
+
+    private TypeStack(TypeTag top, TypeStack rest, long mask, int size) {
+        this.top = top;
+        this.rest = rest;
+        this.mask = mask;
+        this.size = size;
+    }
+
+    /**
+     * Returns the empty stack.
+     *
+     * @return The empty stack.
+     */
+    public static TypeStack empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Returns a new stack with the given type on top of the types in this one. This stack is not
+     * modified.
+     *
+     * @param tag The type to push.
+     * @return A new stack.
+     */
+    public TypeStack push(TypeTag tag) {
+        return new TypeStack(tag, this, mask | bit(tag), size + 1);
+    }
+
+    /**
+     * @param tag The type to look for.
+     * @return Whether the given type is on this stack.
+     */
+    public boolean contains(TypeTag tag) {
+        if ((mask & bit(tag)) == 0) {
+            return false;
+        }
+        for (TypeStack s = this; s != EMPTY; s = s.rest) {
+            if (s.top.equals(tag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** @return The number of types on this stack. */
+    public int size() {
+        return size;
+    }
+
+    /** @return Whether this stack contains no types. */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Iterator<TypeTag> iterator() {
+        Deque<TypeTag> result = new ArrayDeque<>(size);
+        for (TypeStack s = this; s != EMPTY; s = s.rest) {
+            result.push(s.top);
+        }
+        return result.iterator();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("[");
+        for (TypeTag tag : this) {
+            sb.append(sb.length() == 1 ? "" : ", ").append(tag);
+        }
+        return sb.append("]").toString();
+    }
+
+    private static long bit(TypeTag tag) {
+        return 1L << (tag.hashCode() & 63);
+    }
+}
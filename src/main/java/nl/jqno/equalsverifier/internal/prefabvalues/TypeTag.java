@@ -4,20 +4,46 @@ import static nl.jqno.equalsverifier.internal.reflection.Util.classForName;
 
 import java.lang.reflect.*;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import nl.jqno.equalsverifier.internal.exceptions.EqualsVerifierInternalBugException;
+import nl.jqno.equalsverifier.internal.util.ClassCache;
 
 /**
  * Represents a generic type, including raw type and generic type parameters.
  *
  * <p>If the type is not generic, the genericTypes list will be empty.
+ *
+ * <p>TypeTags are used as keys in the caches of {@link PrefabValues}, and the same fields are
+ * resolved over and over again. Therefore, TypeTags cache their hashCode, and the result of {@link
+ * #of(Field, TypeTag)} is memoized, so that the same field in the same enclosing type always
+ * gives the same instance, and most equality checks are identity checks.
  */
 public final class TypeTag {
 
     /** Null object for TypeTag. */
     public static final TypeTag NULL = new TypeTag(NullType.class);
 
+    /*
+     * Memoized results of of(Field, TypeTag), for enclosing types without generic parameters.
+     * Such results only depend on the field and on the raw enclosing type, so they can be shared
+     * between verifications. They're stored with the enclosing type, so they're garbage collected
+     * together with it.
+     */
+    private static final ClassCache<ConcurrentMap<Field, TypeTag>> RESOLVED_FIELDS =
+        new ClassCache<>(type -> new ConcurrentHashMap<>());
+
     private final Class<?> type;
     private final List<TypeTag> genericTypes;
+    private final int cachedHashCode;
+
+    /*
+     * Memoized results of of(Field, TypeTag), for generic enclosing types. Their results depend on
+     * the generic parameters, so they're kept with the TypeTag instance itself. Created lazily,
+     * since most TypeTags never enclose a field.
+     */
+    private volatile ConcurrentMap<Field, TypeTag> resolvedFields;
+    private volatile Map<String, TypeTag> typeVariableLookup;
 
     /**
      * Constructor.
@@ -35,6 +61,7 @@ public final class TypeTag {
         }
         this.type = type;
         this.genericTypes = genericTypes;
+        this.cachedHashCode = calculateHashCode();
     }
 
     /**
@@ -47,7 +74,39 @@ public final class TypeTag {
      * @return The TypeTag for the given field.
      */
     public static TypeTag of(Field field, TypeTag enclosingType) {
-        return resolve(field.getGenericType(), enclosingType, false);
+        ConcurrentMap<Field, TypeTag> memo = enclosingType.memoFor(field);
+        if (memo == null) {
+            return resolve(field.getGenericType(), enclosingType, false);
+        }
+        TypeTag result = memo.get(field);
+        if (result == null) {
+            result = resolve(field.getGenericType(), enclosingType, false);
+            TypeTag existing = memo.putIfAbsent(field, result);
+            if (existing != null) {
+                result = existing;
+            }
+        }
+        return result;
+    }
+
+    /*
+     * Only fields that actually belong to the enclosing type are memoized. Other combinations,
+     * such as a field with TypeTag.NULL as its enclosing type, would keep classes from unrelated
+     * ClassLoaders alive.
+     */
+    private ConcurrentMap<Field, TypeTag> memoFor(Field field) {
+        if (!field.getDeclaringClass().isAssignableFrom(type)) {
+            return null;
+        }
+        if (genericTypes.isEmpty()) {
+            return RESOLVED_FIELDS.get(type);
+        }
+        ConcurrentMap<Field, TypeTag> result = resolvedFields;
+        if (result == null) {
+            result = new ConcurrentHashMap<>();
+            resolvedFields = result;
+        }
+        return result;
     }
 
     private static TypeTag resolve(
@@ -132,7 +191,7 @@ public final class TypeTag {
         TypeTag enclosingType,
         boolean shortCircuitRecursiveTypeBound
     ) {
-        Map<String, TypeTag> typeVariableLookup = buildLookup(enclosingType);
+        Map<String, TypeTag> typeVariableLookup = enclosingType.typeVariableLookup();
         String typeVariableName = type.getName();
         if (typeVariableLookup.containsKey(typeVariableName)) {
             return typeVariableLookup.get(typeVariableName);
@@ -145,6 +204,15 @@ public final class TypeTag {
         return new TypeTag(Object.class);
     }
 
+    private Map<String, TypeTag> typeVariableLookup() {
+        Map<String, TypeTag> result = typeVariableLookup;
+        if (result == null) {
+            result = buildLookup(this);
+            typeVariableLookup = result;
+        }
+        return result;
+    }
+
     private static Map<String, TypeTag> buildLookup(TypeTag enclosingType) {
         TypeVariable<?>[] typeParameters = enclosingType.getType().getTypeParameters();
         Map<String, TypeTag> lookup = new HashMap<>();
@@ -177,6 +245,9 @@ public final class TypeTag {
     /** {@inheritDoc} */
     @Override
     public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
         if (!(obj instanceof TypeTag)) {
             return false;
         }
@@ -187,6 +258,10 @@ public final class TypeTag {
     /** {@inheritDoc} */
     @Override
     public int hashCode() {
+        return cachedHashCode;
+    }
+
+    private int calculateHashCode() {
         int result = 37;
         result = (59 * result) + type.hashCode();
         result = (59 * result) + genericTypes.hashCode();
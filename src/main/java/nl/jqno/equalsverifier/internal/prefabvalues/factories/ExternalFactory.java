@@ -3,39 +3,90 @@ package nl.jqno.equalsverifier.internal.prefabvalues.factories;
 import static nl.jqno.equalsverifier.internal.reflection.Util.classes;
 import static nl.jqno.equalsverifier.internal.reflection.Util.objects;
 
-import java.util.LinkedHashSet;
 import nl.jqno.equalsverifier.internal.prefabvalues.FactoryCache;
 import nl.jqno.equalsverifier.internal.prefabvalues.PrefabValues;
 import nl.jqno.equalsverifier.internal.prefabvalues.Tuple;
+import nl.jqno.equalsverifier.internal.prefabvalues.TypeStack;
 import nl.jqno.equalsverifier.internal.prefabvalues.TypeTag;
 import nl.jqno.equalsverifier.internal.prefabvalues.factoryproviders.FactoryProvider;
 import nl.jqno.equalsverifier.internal.reflection.ConditionalInstantiator;
 
+/**
+ * Implementation of {@link PrefabValueFactory} that delegates to a {@link FactoryProvider} for a
+ * library that may not be on the classpath, such as Guava or Joda-Time.
+ *
+ * <p>The provider is only loaded when it's first needed. Since instances of this class are shared
+ * between verifications that may run at the same time, loading it is guarded so that it happens
+ * only once, and so that other threads never see a provider that's still being built.
+ */
 public class ExternalFactory<T> implements PrefabValueFactory<T> {
 
     private static final String EXTERNAL_FACTORIES_PACKAGE =
         "nl.jqno.equalsverifier.internal.prefabvalues.factoryproviders.";
 
     private final String factoryName;
-    private FactoryCache factoryCache;
+    private final String requiredClassName;
+    private volatile FactoryCache factoryCache;
 
     public ExternalFactory(String factoryName) {
+        this(factoryName, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param factoryName The simple name of the {@link FactoryProvider}.
+     * @param requiredClassName The name of a class that is on the classpath if, and only if, the
+     *     library that the provider is for is. Used by {@link #prewarm()}; if {@code null}, the
+     *     provider is never pre-warmed.
+     */
+    public ExternalFactory(String factoryName, String requiredClassName) {
         this.factoryName = EXTERNAL_FACTORIES_PACKAGE + factoryName;
+        this.requiredClassName = requiredClassName;
     }
 
     @Override
-    public Tuple<T> createValues(
-        TypeTag tag,
-        PrefabValues prefabValues,
-        LinkedHashSet<TypeTag> typeStack
-    ) {
-        if (factoryCache == null) {
-            ConditionalInstantiator ci = new ConditionalInstantiator(factoryName);
-            FactoryProvider provider = ci.instantiate(classes(), objects());
-            factoryCache = provider.getFactoryCache();
+    public Tuple<T> createValues(TypeTag tag, PrefabValues prefabValues, TypeStack typeStack) {
+        PrefabValueFactory<T> factory = factoryCache().get(tag.getType());
+        return factory.createValues(tag, prefabValues, typeStack);
+    }
+
+    /**
+     * Loads the provider right away instead of when it's first needed, but only if the library
+     * that it's for is on the classpath.
+     *
+     * @return Whether the provider is loaded.
+     */
+    public boolean prewarm() {
+        if (requiredClassName == null || !isPresent(requiredClassName)) {
+            return factoryCache != null;
         }
+        factoryCache();
+        return true;
+    }
 
-        PrefabValueFactory<T> factory = factoryCache.get(tag.getType());
-        return factory.createValues(tag, prefabValues, typeStack);
+    private FactoryCache factoryCache() {
+        FactoryCache result = factoryCache;
+        if (result == null) {
+            synchronized (this) {
+                result = factoryCache;
+                if (result == null) {
+                    ConditionalInstantiator ci = new ConditionalInstantiator(factoryName);
+                    FactoryProvider provider = ci.instantiate(classes(), objects());
+                    result = provider.getFactoryCache().freeze();
+                    factoryCache = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    private static boolean isPresent(String className) {
+        try {
+            Class.forName(className, false, ExternalFactory.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
     }
 }
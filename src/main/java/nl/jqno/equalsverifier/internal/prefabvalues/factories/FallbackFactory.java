@@ -3,9 +3,9 @@ package nl.jqno.equalsverifier.internal.prefabvalues.factories;
 import java.lang.reflect.Array;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
-import java.util.LinkedHashSet;
 import nl.jqno.equalsverifier.internal.prefabvalues.PrefabValues;
 import nl.jqno.equalsverifier.internal.prefabvalues.Tuple;
+import nl.jqno.equalsverifier.internal.prefabvalues.TypeStack;
 import nl.jqno.equalsverifier.internal.prefabvalues.TypeTag;
 import nl.jqno.equalsverifier.internal.reflection.ClassAccessor;
 import nl.jqno.equalsverifier.internal.reflection.FieldIterable;
@@ -19,14 +19,8 @@ import nl.jqno.equalsverifier.internal.reflection.FieldIterable;
 public class FallbackFactory<T> implements PrefabValueFactory<T> {
 
     @Override
-    public Tuple<T> createValues(
-        TypeTag tag,
-        PrefabValues prefabValues,
-        LinkedHashSet<TypeTag> typeStack
-    ) {
-        @SuppressWarnings("unchecked")
-        LinkedHashSet<TypeTag> clone = (LinkedHashSet<TypeTag>) typeStack.clone();
-        clone.add(tag);
+    public Tuple<T> createValues(TypeTag tag, PrefabValues prefabValues, TypeStack typeStack) {
+        TypeStack clone = typeStack.push(tag);
 
         Class<T> type = tag.getType();
         if (type.isEnum()) {
@@ -58,7 +52,7 @@ public class FallbackFactory<T> implements PrefabValueFactory<T> {
     private Tuple<T> giveArrayInstances(
         TypeTag tag,
         PrefabValues prefabValues,
-        LinkedHashSet<TypeTag> typeStack
+        TypeStack typeStack
     ) {
         Class<T> type = tag.getType();
         Class<?> componentType = type.getComponentType();
@@ -75,11 +69,7 @@ public class FallbackFactory<T> implements PrefabValueFactory<T> {
         return new Tuple<>(red, blue, redCopy);
     }
 
-    private void traverseFields(
-        TypeTag tag,
-        PrefabValues prefabValues,
-        LinkedHashSet<TypeTag> typeStack
-    ) {
+    private void traverseFields(TypeTag tag, PrefabValues prefabValues, TypeStack typeStack) {
         Class<?> type = tag.getType();
         for (Field field : FieldIterable.of(type)) {
             int modifiers = field.getModifiers();
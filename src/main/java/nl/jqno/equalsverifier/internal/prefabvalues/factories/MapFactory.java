@@ -1,10 +1,10 @@
 package nl.jqno.equalsverifier.internal.prefabvalues.factories;
 
-import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.function.Supplier;
 import nl.jqno.equalsverifier.internal.prefabvalues.PrefabValues;
 import nl.jqno.equalsverifier.internal.prefabvalues.Tuple;
+import nl.jqno.equalsverifier.internal.prefabvalues.TypeStack;
 import nl.jqno.equalsverifier.internal.prefabvalues.TypeTag;
 
 /**
@@ -21,12 +21,8 @@ public class MapFactory<T extends Map> extends AbstractGenericFactory<T> {
     }
 
     @Override
-    public Tuple<T> createValues(
-        TypeTag tag,
-        PrefabValues prefabValues,
-        LinkedHashSet<TypeTag> typeStack
-    ) {
-        LinkedHashSet<TypeTag> clone = cloneWith(typeStack, tag);
+    public Tuple<T> createValues(TypeTag tag, PrefabValues prefabValues, TypeStack typeStack) {
+        TypeStack clone = cloneWith(typeStack, tag);
         TypeTag keyTag = determineAndCacheActualTypeTag(0, tag, prefabValues, clone);
         TypeTag valueTag = determineAndCacheActualTypeTag(1, tag, prefabValues, clone);
 
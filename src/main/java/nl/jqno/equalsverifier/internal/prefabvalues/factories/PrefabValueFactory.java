@@ -1,8 +1,8 @@
 package nl.jqno.equalsverifier.internal.prefabvalues.factories;
 
-import java.util.LinkedHashSet;
 import nl.jqno.equalsverifier.internal.prefabvalues.PrefabValues;
 import nl.jqno.equalsverifier.internal.prefabvalues.Tuple;
+import nl.jqno.equalsverifier.internal.prefabvalues.TypeStack;
 import nl.jqno.equalsverifier.internal.prefabvalues.TypeTag;
 
 /**
@@ -21,5 +21,5 @@ public interface PrefabValueFactory<T> {
      *     for recursion detection.
      * @return A "red" instance of {@code T}.
      */
-    Tuple<T> createValues(TypeTag tag, PrefabValues prefabValues, LinkedHashSet<TypeTag> typeStack);
+    Tuple<T> createValues(TypeTag tag, PrefabValues prefabValues, TypeStack typeStack);
 }
@@ -9,6 +9,7 @@ import java.util.function.Supplier;
 import nl.jqno.equalsverifier.internal.prefabvalues.FactoryCache;
 import nl.jqno.equalsverifier.internal.prefabvalues.PrefabValues;
 import nl.jqno.equalsverifier.internal.prefabvalues.Tuple;
+import nl.jqno.equalsverifier.internal.prefabvalues.TypeStack;
 import nl.jqno.equalsverifier.internal.prefabvalues.TypeTag;
 import nl.jqno.equalsverifier.internal.prefabvalues.factories.AbstractGenericFactory;
 import nl.jqno.equalsverifier.internal.prefabvalues.factories.EnumMapFactory;
@@ -157,12 +158,8 @@ public final class GuavaFactoryProvider implements FactoryProvider {
         }
 
         @Override
-        public Tuple<T> createValues(
-            TypeTag tag,
-            PrefabValues prefabValues,
-            LinkedHashSet<TypeTag> typeStack
-        ) {
-            LinkedHashSet<TypeTag> clone = cloneWith(typeStack, tag);
+        public Tuple<T> createValues(TypeTag tag, PrefabValues prefabValues, TypeStack typeStack) {
+            TypeStack clone = cloneWith(typeStack, tag);
             TypeTag keyTag = determineAndCacheActualTypeTag(0, tag, prefabValues, clone);
             TypeTag valueTag = determineAndCacheActualTypeTag(1, tag, prefabValues, clone);
 
@@ -187,12 +184,8 @@ public final class GuavaFactoryProvider implements FactoryProvider {
         }
 
         @Override
-        public Tuple<T> createValues(
-            TypeTag tag,
-            PrefabValues prefabValues,
-            LinkedHashSet<TypeTag> typeStack
-        ) {
-            LinkedHashSet<TypeTag> clone = cloneWith(typeStack, tag);
+        public Tuple<T> createValues(TypeTag tag, PrefabValues prefabValues, TypeStack typeStack) {
+            TypeStack clone = cloneWith(typeStack, tag);
             TypeTag columnTag = determineAndCacheActualTypeTag(0, tag, prefabValues, clone);
             TypeTag rowTag = determineAndCacheActualTypeTag(1, tag, prefabValues, clone);
             TypeTag valueTag = determineAndCacheActualTypeTag(2, tag, prefabValues, clone);
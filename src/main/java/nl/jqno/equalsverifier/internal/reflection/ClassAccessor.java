@@ -1,12 +1,9 @@
 package nl.jqno.equalsverifier.internal.reflection;
 
-import static nl.jqno.equalsverifier.internal.util.Rethrow.rethrow;
-
 import java.lang.reflect.Field;
-import java.lang.reflect.Method;
-import java.lang.reflect.Modifier;
 import java.util.Set;
 import java.util.function.Predicate;
+import nl.jqno.equalsverifier.internal.exceptions.ReflectionException;
 import nl.jqno.equalsverifier.internal.prefabvalues.PrefabValues;
 import nl.jqno.equalsverifier.internal.prefabvalues.TypeTag;
 import nl.jqno.equalsverifier.internal.reflection.annotations.AnnotationCache;
@@ -53,11 +50,7 @@ public class ClassAccessor<T> {
      * @return true if T is a Java Record.
      */
     public boolean isRecord() {
-        Class<?> record = Util.classForName("java.lang.Record");
-        if (record == null) {
-            return false;
-        }
-        return record.isAssignableFrom(type);
+        return ClassDescriptor.of(type).isRecord();
     }
 
     /**
@@ -66,18 +59,7 @@ public class ClassAccessor<T> {
      * @return true if T is a sealed class
      */
     public boolean isSealed() {
-        int version = Integer.parseInt(System.getProperty("java.version").replaceAll("[.-].*", ""));
-        if (version >= 17) {
-            try {
-                Class<?> clazz = Util.classForName("java.lang.Class");
-                Method isSealed = clazz.getDeclaredMethod("isSealed");
-                Object result = isSealed.invoke(type);
-                return result == null ? false : (Boolean) result;
-            } catch (ReflectiveOperationException | SecurityException e) {
-                return false;
-            }
-        }
-        return false;
+        return ClassDescriptor.of(type).isSealed();
     }
 
     /**
@@ -101,7 +83,7 @@ public class ClassAccessor<T> {
      * @return True if T has an {@code equals} method.
      */
     public boolean declaresEquals() {
-        return declaresMethod("equals", Object.class);
+        return ClassDescriptor.of(type).declaresEquals();
     }
 
     /**
@@ -110,16 +92,7 @@ public class ClassAccessor<T> {
      * @return True if T has an {@code hashCode} method.
      */
     public boolean declaresHashCode() {
-        return declaresMethod("hashCode");
-    }
-
-    private boolean declaresMethod(String name, Class<?>... parameterTypes) {
-        try {
-            type.getDeclaredMethod(name, parameterTypes);
-            return true;
-        } catch (NoSuchMethodException e) {
-            return false;
-        }
+        return ClassDescriptor.of(type).declaresHashCode();
     }
 
     /**
@@ -128,7 +101,7 @@ public class ClassAccessor<T> {
      * @return True if T's {@code equals} method is abstract.
      */
     public boolean isEqualsAbstract() {
-        return isMethodAbstract("equals", Object.class);
+        return isMethodAbstract("equals", ClassDescriptor.of(type).isEqualsAbstract());
     }
 
     /**
@@ -137,13 +110,14 @@ public class ClassAccessor<T> {
      * @return True if T's {@code hashCode} method is abstract.
      */
     public boolean isHashCodeAbstract() {
-        return isMethodAbstract("hashCode");
+        return isMethodAbstract("hashCode", ClassDescriptor.of(type).isHashCodeAbstract());
     }
 
-    private boolean isMethodAbstract(String name, Class<?>... parameterTypes) {
-        return rethrow(() ->
-            Modifier.isAbstract(type.getMethod(name, parameterTypes).getModifiers())
-        );
+    private boolean isMethodAbstract(String name, Boolean isAbstract) {
+        if (isAbstract == null) {
+            throw new ReflectionException(type.getName() + " has no " + name + " method.");
+        }
+        return isAbstract;
     }
 
     /**
@@ -153,14 +127,7 @@ public class ClassAccessor<T> {
      *     overridden in T or in any of its superclasses (except {@link Object}).
      */
     public boolean isEqualsInheritedFromObject() {
-        ClassAccessor<? super T> i = this;
-        while (i.getType() != Object.class) {
-            if (i.declaresEquals() && !i.isEqualsAbstract()) {
-                return false;
-            }
-            i = i.getSuperAccessor();
-        }
-        return true;
+        return ClassDescriptor.of(type).isEqualsInheritedFromObject();
     }
 
     /**
@@ -0,0 +1,146 @@
+package nl.jqno.equalsverifier.internal.reflection;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import nl.jqno.equalsverifier.internal.util.ClassCache;
+
+/**
+ * Describes the properties of a class that {@link ClassAccessor} is asked about over and over
+ * again: whether it's a record, whether it's sealed, and whether and how it declares {@code equals}
+ * and {@code hashCode}.
+ *
+ * <p>Since these never change, they are determined only once per class, by looking at the methods
+ * the class declares instead of asking for each method and catching the exception if it isn't
+ * there. Like {@link FieldLayout}, descriptors are kept in a {@link ClassCache}.
+ */
+public final class ClassDescriptor {
+
+    private static final ClassCache<ClassDescriptor> CACHE = new ClassCache<>(ClassDescriptor::new);
+
+    private static final Class<?> RECORD = Util.classForName("java.lang.Record");
+    private static final Method IS_SEALED = findMethod(Class.class, "isSealed");
+
+    private final boolean record;
+    private final boolean sealed;
+    private final boolean declaresEquals;
+    private final boolean declaresHashCode;
+    private final Boolean equalsAbstract;
+    private final Boolean hashCodeAbstract;
+    private final boolean equalsInheritedFromObject;
+
+    private ClassDescriptor(Class<?> type) {
+        Method equals = null;
+        Method hashCode = null;
+        for (Method m : type.getDeclaredMethods()) {
+            Class<?>[] parameterTypes = m.getParameterTypes();
+            if (isEquals(m.getName(), parameterTypes)) {
+                equals = m;
+            } else if ("hashCode".equals(m.getName()) && parameterTypes.length == 0) {
+                hashCode = m;
+            }
+        }
+
+        Class<?> superclass = type.getSuperclass();
+        ClassDescriptor superDescriptor = superclass == null ? null : of(superclass);
+
+        this.record = RECORD != null && RECORD.isAssignableFrom(type);
+        this.sealed = determineSealed(type);
+        this.declaresEquals = equals != null;
+        this.declaresHashCode = hashCode != null;
+        this.equalsAbstract = equals != null
+            ? (Boolean) Modifier.isAbstract(equals.getModifiers())
+            : superDescriptor == null ? null : superDescriptor.equalsAbstract;
+        this.hashCodeAbstract = hashCode != null
+            ? (Boolean) Modifier.isAbstract(hashCode.getModifiers())
+            : superDescriptor == null ? null : superDescriptor.hashCodeAbstract;
+        this.equalsInheritedFromObject =
+            type.equals(Object.class) ||
+            (
+                !(declaresEquals && !equalsAbstract) &&
+                (superDescriptor == null || superDescriptor.equalsInheritedFromObject)
+            );
+    }
+
+    /**
+     * Returns the descriptor of the given class.
+     *
+     * @param type The class to describe.
+     * @return The descriptor of {@code type}.
+     */
+    public static ClassDescriptor of(Class<?> type) {
+        return CACHE.get(type);
+    }
+
+    /** @return Whether the class is a Java Record. */
+    public boolean isRecord() {
+        return record;
+    }
+
+    /** @return Whether the class is sealed. */
+    public boolean isSealed() {
+        return sealed;
+    }
+
+    /** @return Whether the class itself declares an {@code equals} method. */
+    public boolean declaresEquals() {
+        return declaresEquals;
+    }
+
+    /** @return Whether the class itself declares a {@code hashCode} method. */
+    public boolean declaresHashCode() {
+        return declaresHashCode;
+    }
+
+    /**
+     * @return Whether the {@code equals} method of the class, which may be inherited, is abstract;
+     *     or {@code null} if the class has no superclass to inherit one from, such as an interface.
+     */
+    public Boolean isEqualsAbstract() {
+        return equalsAbstract;
+    }
+
+    /**
+     * @return Whether the {@code hashCode} method of the class, which may be inherited, is
+     *     abstract; or {@code null} if the class has no superclass to inherit one from, such as an
+     *     interface.
+     */
+    public Boolean isHashCodeAbstract() {
+        return hashCodeAbstract;
+    }
+
+    /**
+     * @return Whether the {@code equals} method of the class is inherited from {@link Object},
+     *     rather than overridden in the class or in any of its superclasses.
+     */
+    public boolean isEqualsInheritedFromObject() {
+        return equalsInheritedFromObject;
+    }
+
+    private static boolean isEquals(String name, Class<?>[] parameterTypes) {
+        return (
+            "equals".equals(name) &&
+            parameterTypes.length == 1 &&
+            parameterTypes[0].equals(Object.class)
+        );
+    }
+
+    private static boolean determineSealed(Class<?> type) {
+        if (IS_SEALED == null) {
+            return false;
+        }
+        try {
+            return Boolean.TRUE.equals(IS_SEALED.invoke(type));
+        } catch (ReflectiveOperationException | SecurityException e) {
+            return false;
+        }
+    }
+
+    private static Method findMethod(Class<?> type, String name) {
+        for (Method m : type.getMethods()) {
+            if (m.getName().equals(name) && m.getParameterCount() == 0) {
+                return m;
+            }
+        }
+        return null;
+    }
+}
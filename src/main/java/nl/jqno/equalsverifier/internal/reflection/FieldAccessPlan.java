@@ -0,0 +1,197 @@
+package nl.jqno.equalsverifier.internal.reflection;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+import nl.jqno.equalsverifier.internal.prefabvalues.PrefabValues;
+import nl.jqno.equalsverifier.internal.prefabvalues.TypeTag;
+import nl.jqno.equalsverifier.internal.util.ClassCache;
+
+/**
+ * Copies, scrambles and clears all the fields of an object in one straight pass, without looking
+ * up a {@link FieldModifier} for each field.
+ *
+ * <p>A plan holds the {@link MethodHandleAccessStrategy} of every instance field that can be
+ * modified, in the order of {@link FieldIterable#of(Class)}. Static fields are skipped, just like
+ * {@link FieldModifier} skips them for these operations. Plans are computed once per class, and
+ * are garbage collected together with it.
+ *
+ * <p>If one of the fields can't be accessed through {@code MethodHandle}s, no plan is available
+ * for the class, and callers should fall back to {@link FieldModifier}. Snapshots are the
+ * exception: they work on any plan, because they are used to avoid instantiating new objects,
+ * which is far more expensive than reflective access.
+ */
+/* package private */final class FieldAccessPlan {
+
+    private static final ClassCache<FieldAccessPlan> CACHE = new ClassCache<>(FieldAccessPlan::new);
+
+    private final Field[] fields;
+    private final FieldAccessStrategy[] strategies;
+    private final boolean[] primitive;
+    private final boolean[] mutable;
+    private final Map<Field, Integer> indices = new HashMap<>();
+    private final boolean available;
+
+    private FieldAccessPlan(Class<?> type) {
+        List<FieldAccessor> accessors = new ArrayList<>();
+        for (FieldAccessor accessor : FieldLayout.of(type).getAllInstanceFields()) {
+            if (accessor.canBeModifiedReflectively()) {
+                accessors.add(accessor);
+            }
+        }
+
+        boolean allHandles = true;
+        this.fields = new Field[accessors.size()];
+        this.strategies = new FieldAccessStrategy[accessors.size()];
+        this.primitive = new boolean[accessors.size()];
+        this.mutable = new boolean[accessors.size()];
+        for (int i = 0; i < fields.length; i++) {
+            FieldAccessor accessor = accessors.get(i);
+            fields[i] = accessor.getField();
+            strategies[i] = accessor.access();
+            primitive[i] = accessor.fieldIsPrimitive();
+            mutable[i] = !Modifier.isFinal(fields[i].getModifiers());
+            indices.put(fields[i], i);
+            allHandles &= strategies[i] instanceof MethodHandleAccessStrategy;
+        }
+        this.available = allHandles;
+    }
+
+    /**
+     * Returns the plan for the given class.
+     *
+     * @param type The class whose fields to access.
+     * @return The plan for {@code type}.
+     */
+    public static FieldAccessPlan of(Class<?> type) {
+        return CACHE.get(type);
+    }
+
+    /**
+     * @return Whether all fields can be accessed through {@code MethodHandle}s. If not, the other
+     *     methods of this class may not be called.
+     */
+    public boolean isAvailable() {
+        return available;
+    }
+
+    /**
+     * Copies the value of each field from one object into another.
+     *
+     * @param from The object to copy from.
+     * @param to The object to copy into. Must be of the plan's type, or of one of its subclasses.
+     */
+    public void copy(Object from, Object to) {
+        FieldModifier.wrap(() -> {
+            for (FieldAccessStrategy strategy : strategies) {
+                strategy.copy(from, to);
+            }
+        });
+    }
+
+    /**
+     * Changes the value of each field to something else.
+     *
+     * @param object The object to scramble.
+     * @param prefabValues Prefabricated values to take the new values from.
+     * @param enclosingType A tag for the type that contains the fields.
+     */
+    public void scramble(Object object, PrefabValues prefabValues, TypeTag enclosingType) {
+        FieldModifier.wrap(() -> {
+            for (int i = 0; i < fields.length; i++) {
+                change(i, object, prefabValues, enclosingType);
+            }
+        });
+    }
+
+    /**
+     * Sets each field to its default value, and then changes it to something else if it can't be
+     * default.
+     *
+     * @param object The object to clear.
+     * @param canBeDefault Determines whether a field can be default.
+     * @param prefabValues Prefabricated values to take the new values from.
+     * @param enclosingType A tag for the type that contains the fields.
+     */
+    public void clear(
+        Object object,
+        Predicate<Field> canBeDefault,
+        PrefabValues prefabValues,
+        TypeTag enclosingType
+    ) {
+        FieldModifier.wrap(() -> {
+            for (int i = 0; i < fields.length; i++) {
+                strategies[i].setToDefault(object);
+                if (!canBeDefault.test(fields[i])) {
+                    change(i, object, prefabValues, enclosingType);
+                }
+            }
+        });
+    }
+
+    /**
+     * @param field A field.
+     * @return The position of the field in the plan, or -1 if the plan doesn't contain it; for
+     *     instance, because it's static.
+     */
+    public int indexOf(Field field) {
+        Integer result = indices.get(field);
+        return result == null ? -1 : result;
+    }
+
+    /**
+     * Reads the value of each field. Works even if the plan is not available.
+     *
+     * @param object The object to read.
+     * @return The values of the fields, in the order of the plan.
+     */
+    public Object[] snapshot(Object object) {
+        Object[] result = new Object[fields.length];
+        FieldModifier.wrap(() -> {
+            for (int i = 0; i < fields.length; i++) {
+                result[i] = strategies[i].get(object);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Puts back the values of a snapshot. The fields in {@code touched} are written without
+     * looking at their current value. The other non-final fields are only written if their value
+     * differs from the snapshot, which happens if something outside of EqualsVerifier's control
+     * changed them, such as an {@code equals} method that caches its {@code hashCode}. Final fields
+     * that weren't touched are skipped, because only reflection can change them. Works even if the
+     * plan is not available.
+     *
+     * @param object The object to restore.
+     * @param snapshot The values to restore, as returned by {@link #snapshot(Object)}.
+     * @param touched The positions of the fields that are known to have changed.
+     */
+    public void restore(Object object, Object[] snapshot, BitSet touched) {
+        FieldModifier.wrap(() -> {
+            for (int i = 0; i < fields.length; i++) {
+                if (touched.get(i)) {
+                    strategies[i].set(object, snapshot[i]);
+                } else if (mutable[i] && !isSame(i, strategies[i].get(object), snapshot[i])) {
+                    strategies[i].set(object, snapshot[i]);
+                }
+            }
+        });
+    }
+
+    private boolean isSame(int i, Object value, Object expected) {
+        return primitive[i] ? value.equals(expected) : value == expected;
+    }
+
+    private void change(int i, Object object, PrefabValues prefabValues, TypeTag enclosingType)
+        throws IllegalAccessException {
+        TypeTag tag = TypeTag.of(fields[i], enclosingType);
+        Object newValue = prefabValues.giveOther(tag, strategies[i].get(object));
+        strategies[i].set(object, newValue);
+    }
+}
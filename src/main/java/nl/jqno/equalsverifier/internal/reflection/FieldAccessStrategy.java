@@ -0,0 +1,65 @@
+package nl.jqno.equalsverifier.internal.reflection;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Field;
+
+/**
+ * Reads and writes the value of a single field.
+ *
+ * <p>{@link #of(Field)} resolves the field's accessibility once, and picks the fastest strategy
+ * that works for the field. Strategies are cached in the field's {@link FieldAccessor}, so they are
+ * shared by everyone who accesses the field.
+ */
+/* package private */interface FieldAccessStrategy {
+    /**
+     * Factory method. Uses {@link MethodHandle}s when possible, and falls back to regular
+     * reflection otherwise: for instance, for static final fields, or for fields that can't be made
+     * accessible.
+     *
+     * @param field The field to access.
+     * @return A strategy to access {@code field}.
+     */
+    static FieldAccessStrategy of(Field field) {
+        try {
+            field.setAccessible(true);
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            MethodHandle getter = lookup.unreflectGetter(field);
+            MethodHandle setter = lookup.unreflectSetter(field);
+            return new MethodHandleAccessStrategy(field, getter, setter);
+        } catch (IllegalAccessException | RuntimeException e) {
+            return new ReflectiveAccessStrategy(field);
+        }
+    }
+
+    /**
+     * @param object The object that contains the field. Ignored for static fields.
+     * @return The value of the field in {@code object}.
+     * @throws IllegalAccessException If the field can't be accessed.
+     */
+    Object get(Object object) throws IllegalAccessException;
+
+    /**
+     * @param object The object that contains the field. Ignored for static fields.
+     * @param value The value to assign to the field.
+     * @throws IllegalAccessException If the field can't be accessed.
+     */
+    void set(Object object, Object value) throws IllegalAccessException;
+
+    /**
+     * Copies the value of the field from one object into another. Primitive values are not boxed.
+     *
+     * @param from The object to copy the value from.
+     * @param to The object to copy the value into.
+     * @throws IllegalAccessException If the field can't be accessed.
+     */
+    void copy(Object from, Object to) throws IllegalAccessException;
+
+    /**
+     * Assigns the default value for the field's type: {@code null}, {@code 0} or {@code false}.
+     *
+     * @param object The object that contains the field. Ignored for static fields.
+     * @throws IllegalAccessException If the field can't be accessed.
+     */
+    void setToDefault(Object object) throws IllegalAccessException;
+}
@@ -11,15 +11,24 @@ import nl.jqno.equalsverifier.internal.exceptions.ReflectionException;
 public final class FieldAccessor {
 
     private final Field field;
+    private final int modifiers;
+    private final boolean primitive;
+    private Boolean emptyOrSingleValueEnum;
+    private volatile FieldAccessStrategy access;
 
     /** Private constructor. Call {@link #of(Field)} to instantiate. */
     private FieldAccessor(Field field) {
         this.field = field;
+        this.modifiers = field.getModifiers();
+        this.primitive = field.getType().isPrimitive();
     }
 
     /**
      * Factory method.
      *
+     * <p>Note that {@link FieldLayout} keeps a {@link FieldAccessor} for every field of a class,
+     * which should be preferred over creating a new one.
+     *
      * @param field The field to access.
      * @return A {@link FieldAccessor} for {@link #field}.
      */
@@ -45,28 +54,48 @@ public final class FieldAccessor {
 
     /** @return Whether the field is of a primitive type. */
     public boolean fieldIsPrimitive() {
-        return getFieldType().isPrimitive();
+        return primitive;
     }
 
     /** @return Whether the field is marked with the final modifier. */
     public boolean fieldIsFinal() {
-        return Modifier.isFinal(field.getModifiers());
+        return Modifier.isFinal(modifiers);
     }
 
     /** @return Whether the field is marked with the static modifier. */
     public boolean fieldIsStatic() {
-        return Modifier.isStatic(field.getModifiers());
+        return Modifier.isStatic(modifiers);
     }
 
     /** @return Whether the field is marked with the transient modifier. */
     public boolean fieldIsTransient() {
-        return Modifier.isTransient(field.getModifiers());
+        return Modifier.isTransient(modifiers);
     }
 
     /** @return Whether the field is an enum with a single value. */
     public boolean fieldIsEmptyOrSingleValueEnum() {
-        Class<?> type = field.getType();
-        return type.isEnum() && type.getEnumConstants().length <= 1;
+        // Computed lazily, because getEnumConstants() initializes the enum.
+        if (emptyOrSingleValueEnum == null) {
+            Class<?> type = field.getType();
+            emptyOrSingleValueEnum = type.isEnum() && type.getEnumConstants().length <= 1;
+        }
+        return emptyOrSingleValueEnum;
+    }
+
+    /**
+     * Returns the strategy to read and write the field. It's created when it's first needed, and
+     * re-used after that.
+     *
+     * @return The strategy to access the field.
+     */
+    /* package private */FieldAccessStrategy access() {
+        FieldAccessStrategy result = access;
+        if (result == null) {
+            // Benign race: at worst, two threads create an equivalent strategy.
+            result = FieldAccessStrategy.of(field);
+            access = result;
+        }
+        return result;
     }
 
     /**
@@ -76,13 +105,8 @@ public final class FieldAccessor {
      * @return The field's value.
      * @throws ReflectionException If the operation fails.
      */
-    @SuppressFBWarnings(
-        value = "DP_DO_INSIDE_DO_PRIVILEGED",
-        justification = "Only called in test code, not production."
-    )
     public Object get(Object object) {
-        field.setAccessible(true);
-        return rethrow(() -> field.get(object));
+        return rethrow(() -> access().get(object));
     }
 
     /**
@@ -94,7 +118,6 @@ public final class FieldAccessor {
         if (field.isSynthetic()) {
             return false;
         }
-        int modifiers = field.getModifiers();
         if (Modifier.isFinal(modifiers) && Modifier.isStatic(modifiers)) {
             return false;
         }
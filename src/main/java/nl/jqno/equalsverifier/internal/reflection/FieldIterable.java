@@ -1,14 +1,15 @@
 package nl.jqno.equalsverifier.internal.reflection;
 
 import java.lang.reflect.Field;
-import java.lang.reflect.Modifier;
-import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 
 /**
  * Iterable to iterate over all declared fields in a class and, if needed, over all declared fields
  * of its superclasses.
+ *
+ * <p>The fields are looked up in the {@link FieldLayout} of the class, so iterating doesn't
+ * re-scan the class hierarchy.
  */
 public final class FieldIterable implements Iterable<Field> {
 
@@ -63,42 +64,28 @@ public final class FieldIterable implements Iterable<Field> {
      */
     @Override
     public Iterator<Field> iterator() {
-        return createFieldList().iterator();
-    }
-
-    private List<Field> createFieldList() {
-        List<Field> result = new ArrayList<>();
-
-        result.addAll(addFieldsFor(type));
-
-        if (includeSuperclasses) {
-            for (Class<?> c : SuperclassIterable.of(type)) {
-                result.addAll(addFieldsFor(c));
+        Iterator<FieldAccessor> accessors = getFieldAccessors().iterator();
+        return new Iterator<Field>() {
+            @Override
+            public boolean hasNext() {
+                return accessors.hasNext();
             }
-        }
 
-        return result;
+            @Override
+            public Field next() {
+                return accessors.next().getField();
+            }
+        };
     }
 
-    private List<Field> addFieldsFor(Class<?> c) {
-        List<Field> fields = new ArrayList<>();
-        List<Field> statics = new ArrayList<>();
-
-        for (Field field : c.getDeclaredFields()) {
-            if (!field.isSynthetic() && !"__cobertura_counters".equals(field.getName())) {
-                boolean isStatic = Modifier.isStatic(field.getModifiers());
-                if (isStatic && includeStatic) {
-                    statics.add(field);
-                }
-                if (!isStatic) {
-                    fields.add(field);
-                }
-            }
+    private List<FieldAccessor> getFieldAccessors() {
+        FieldLayout layout = FieldLayout.of(type);
+        if (!includeSuperclasses) {
+            return layout.getDeclaredFields();
         }
-
-        List<Field> result = new ArrayList<>();
-        result.addAll(fields);
-        result.addAll(statics);
-        return result;
+        if (!includeStatic) {
+            return layout.getAllInstanceFields();
+        }
+        return layout.getAllFields();
     }
 }
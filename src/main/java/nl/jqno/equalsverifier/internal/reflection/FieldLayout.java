@@ -0,0 +1,108 @@
+package nl.jqno.equalsverifier.internal.reflection;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import nl.jqno.equalsverifier.internal.util.ClassCache;
+
+/**
+ * Describes the fields of a class, and of its superclasses, in the order in which EqualsVerifier
+ * visits them: for each class in the hierarchy, starting with the class itself, first its instance
+ * fields and then its static fields.
+ *
+ * <p>Computing this requires a call to {@link Class#getDeclaredFields()} for each class in the
+ * hierarchy, which copies all the fields every time. Since the layout of a class never changes, it
+ * is computed only once per class and shared by everyone who needs it. {@link ClassCache} takes
+ * care of thread-safety, and lets the layout be garbage collected together with its class.
+ */
+public final class FieldLayout {
+
+    private static final ClassCache<FieldLayout> CACHE = new ClassCache<>(FieldLayout::new);
+
+    private final List<FieldAccessor> declaredFields;
+    private final List<FieldAccessor> allFields;
+    private final List<FieldAccessor> allInstanceFields;
+    private final Map<String, FieldAccessor> byName = new HashMap<>();
+
+    private FieldLayout(Class<?> type) {
+        List<FieldAccessor> instances = new ArrayList<>();
+        List<FieldAccessor> statics = new ArrayList<>();
+        for (Field field : type.getDeclaredFields()) {
+            if (!field.isSynthetic() && !"__cobertura_counters".equals(field.getName())) {
+                FieldAccessor accessor = FieldAccessor.of(field);
+                byName.put(field.getName(), accessor);
+                if (accessor.fieldIsStatic()) {
+                    statics.add(accessor);
+                } else {
+                    instances.add(accessor);
+                }
+            }
+        }
+
+        List<FieldAccessor> declared = new ArrayList<>(instances);
+        declared.addAll(statics);
+        List<FieldAccessor> all = new ArrayList<>(declared);
+        List<FieldAccessor> allInstances = new ArrayList<>(instances);
+
+        Class<?> superclass = type.getSuperclass();
+        if (superclass != null && !superclass.equals(Object.class)) {
+            FieldLayout superLayout = of(superclass);
+            all.addAll(superLayout.allFields);
+            allInstances.addAll(superLayout.allInstanceFields);
+        }
+
+        this.declaredFields = Collections.unmodifiableList(declared);
+        this.allFields = Collections.unmodifiableList(all);
+        this.allInstanceFields = Collections.unmodifiableList(allInstances);
+    }
+
+    /**
+     * Returns the layout of the given class.
+     *
+     * @param type The class whose fields to describe.
+     * @return The layout of {@code type}.
+     */
+    public static FieldLayout of(Class<?> type) {
+        return CACHE.get(type);
+    }
+
+    /**
+     * Returns the shared {@link FieldAccessor} for the given field, so that the strategy that
+     * accesses it only needs to be resolved once. Fields that aren't part of any layout, such as
+     * synthetic fields, get a fresh {@link FieldAccessor}.
+     *
+     * @param field The field to access.
+     * @return A {@link FieldAccessor} for {@code field}.
+     */
+    public static FieldAccessor accessorFor(Field field) {
+        FieldAccessor result = of(field.getDeclaringClass()).byName.get(field.getName());
+        if (result != null && result.getField().equals(field)) {
+            return result;
+        }
+        return FieldAccessor.of(field);
+    }
+
+    /**
+     * @return The fields declared by the class itself, but not by its superclasses; first the
+     *     instance fields, then the static fields.
+     */
+    public List<FieldAccessor> getDeclaredFields() {
+        return declaredFields;
+    }
+
+    /**
+     * @return The fields of the class and of all of its superclasses; for each class, first the
+     *     instance fields, then the static fields.
+     */
+    public List<FieldAccessor> getAllFields() {
+        return allFields;
+    }
+
+    /** @return The instance fields of the class and of all of its superclasses. */
+    public List<FieldAccessor> getAllInstanceFields() {
+        return allInstanceFields;
+    }
+}
@@ -6,16 +6,17 @@ import java.lang.reflect.Field;
 import nl.jqno.equalsverifier.internal.exceptions.ReflectionException;
 import nl.jqno.equalsverifier.internal.prefabvalues.PrefabValues;
 import nl.jqno.equalsverifier.internal.prefabvalues.TypeTag;
-import nl.jqno.equalsverifier.internal.util.PrimitiveMappers;
 
 public final class FieldModifier {
 
     private final Field field;
+    private final FieldAccessor accessor;
     private final Object object;
 
     /** Private constructor. Call {@link #of(Field, Object)} to instantiate. */
     private FieldModifier(Field field, Object object) {
         this.field = field;
+        this.accessor = FieldLayout.accessorFor(field);
         this.object = object;
     }
 
@@ -39,7 +40,7 @@ public final class FieldModifier {
      * @throws ReflectionException If the operation fails.
      */
     public void set(Object value) {
-        change(() -> field.set(object, value), true);
+        change(() -> accessor.access().set(object, value), true);
     }
 
     /**
@@ -63,8 +64,7 @@ public final class FieldModifier {
     }
 
     private void setFieldToDefault() throws IllegalAccessException {
-        Class<?> type = field.getType();
-        field.set(object, PrimitiveMappers.DEFAULT_VALUE_MAPPER.get(type));
+        accessor.access().setToDefault(object);
     }
 
     /**
@@ -76,7 +76,7 @@ public final class FieldModifier {
      * @throws ReflectionException If the operation fails.
      */
     public void copyTo(Object to) {
-        change(() -> field.set(to, field.get(object)), false);
+        change(() -> accessor.access().copy(object, to), false);
     }
 
     /**
@@ -93,15 +93,15 @@ public final class FieldModifier {
      */
     public void changeField(PrefabValues prefabValues, TypeTag enclosingType) {
         FieldChanger fm = () -> {
+            FieldAccessStrategy access = accessor.access();
             TypeTag tag = TypeTag.of(field, enclosingType);
-            Object newValue = prefabValues.giveOther(tag, field.get(object));
-            field.set(object, newValue);
+            Object newValue = prefabValues.giveOther(tag, access.get(object));
+            access.set(object, newValue);
         };
         change(fm, false);
     }
 
     private void change(FieldChanger changer, boolean includeStatic) {
-        FieldAccessor accessor = FieldAccessor.of(field);
         if (!accessor.canBeModifiedReflectively()) {
             return;
         }
@@ -109,11 +109,21 @@ public final class FieldModifier {
             return;
         }
 
-        field.setAccessible(true);
+        wrap(changer);
+    }
+
+    /**
+     * Performs a change to one or more fields, and translates any exceptions that it throws in the
+     * same way as the other methods of this class.
+     *
+     * @param changer The change to perform.
+     * @throws ReflectionException If the operation fails.
+     */
+    /* package private */static void wrap(FieldChanger changer) {
         rethrow(() -> wrappedChange(changer));
     }
 
-    private void wrappedChange(FieldChanger changer) throws IllegalAccessException {
+    private static void wrappedChange(FieldChanger changer) throws IllegalAccessException {
         try {
             changer.change();
         } catch (IllegalArgumentException e) {
@@ -129,7 +139,7 @@ public final class FieldModifier {
     }
 
     @FunctionalInterface
-    private interface FieldChanger {
+    /* package private */interface FieldChanger {
         void change() throws IllegalAccessException;
     }
 }
@@ -8,6 +8,9 @@ import nl.jqno.equalsverifier.internal.prefabvalues.TypeTag;
 /**
  * Implementation of ObjectAccessor that modifies its wrapped object in-place through reflection.
  *
+ * <p>Operations on all fields at once go through the type's {@link FieldAccessPlan} when one is
+ * available, and through a {@link FieldModifier} for each field otherwise.
+ *
  * @param <T> The specified object's class.
  */
 final class InPlaceObjectAccessor<T> extends ObjectAccessor<T> {
@@ -21,24 +24,35 @@ final class InPlaceObjectAccessor<T> extends ObjectAccessor<T> {
     @Override
     public T copy() {
         T copy = Instantiator.of(type()).instantiate();
-        return copyInto(copy);
+        return copyFieldsInto(copy);
     }
 
     /** {@inheritDoc} */
     @Override
     public <S extends T> S copyIntoSubclass(Class<S> subclass) {
         S copy = Instantiator.of(subclass).instantiate();
-        return copyInto(copy);
+        return copyFieldsInto(copy);
     }
 
     /** {@inheritDoc} */
     @Override
     public T copyIntoAnonymousSubclass() {
         T copy = Instantiator.of(type()).instantiateAnonymousSubclass();
-        return copyInto(copy);
+        return copyFieldsInto(copy);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public T copyInto(T target) {
+        return copyFieldsInto(target);
     }
 
-    private <S> S copyInto(S copy) {
+    private <S> S copyFieldsInto(S copy) {
+        FieldAccessPlan plan = FieldAccessPlan.of(type());
+        if (plan.isAvailable()) {
+            plan.copy(get(), copy);
+            return copy;
+        }
         for (Field field : FieldIterable.of(type())) {
             fieldModifierFor(field).copyTo(copy);
         }
@@ -48,6 +62,11 @@ final class InPlaceObjectAccessor<T> extends ObjectAccessor<T> {
     /** {@inheritDoc} */
     @Override
     public ObjectAccessor<T> scramble(PrefabValues prefabValues, TypeTag enclosingType) {
+        FieldAccessPlan plan = FieldAccessPlan.of(type());
+        if (plan.isAvailable()) {
+            plan.scramble(get(), prefabValues, enclosingType);
+            return this;
+        }
         for (Field field : FieldIterable.of(type())) {
             fieldModifierFor(field).changeField(prefabValues, enclosingType);
         }
@@ -70,6 +89,11 @@ final class InPlaceObjectAccessor<T> extends ObjectAccessor<T> {
         PrefabValues prefabValues,
         TypeTag enclosingType
     ) {
+        FieldAccessPlan plan = FieldAccessPlan.of(type());
+        if (plan.isAvailable()) {
+            plan.clear(get(), canBeDefault, prefabValues, enclosingType);
+            return this;
+        }
         for (Field field : FieldIterable.of(type())) {
             FieldModifier modifier = fieldModifierFor(field);
             modifier.defaultField();
@@ -9,7 +9,9 @@ import java.util.List;
 import net.bytebuddy.ByteBuddy;
 import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
 import net.bytebuddy.dynamic.scaffold.TypeValidation;
+import nl.jqno.equalsverifier.internal.util.ClassCache;
 import nl.jqno.equalsverifier.internal.util.ObjenesisWrapper;
+import nl.jqno.equalsverifier.internal.util.StatisticsCollector;
 
 /**
  * Instantiates objects of a given class.
@@ -28,6 +30,13 @@ public final class Instantiator<T> {
     );
     private static final String FALLBACK_PACKAGE_NAME = getPackageName(Instantiator.class);
 
+    // Computed once per superclass without a global lock. Subclasses of system classes are
+    // defined in EqualsVerifier's ClassLoader, so ClassCache keeps them away from the system class
+    // itself, where they would keep that ClassLoader from ever being garbage collected.
+    private static final ClassCache<Class<?>> DYNAMIC_SUBCLASSES = new ClassCache<>(
+        Instantiator::createDynamicSubclass
+    );
+
     private final Class<T> type;
 
     /** Private constructor. Call {@link #of(Class)} to instantiate. */
@@ -58,6 +67,7 @@ public final class Instantiator<T> {
      * @return An object of type T.
      */
     public T instantiate() {
+        StatisticsCollector.countObjectInstantiated();
         return ObjenesisWrapper.getObjenesis().newInstance(type);
     }
 
@@ -68,11 +78,16 @@ public final class Instantiator<T> {
      */
     public T instantiateAnonymousSubclass() {
         Class<T> proxyClass = giveDynamicSubclass(type);
+        StatisticsCollector.countObjectInstantiated();
         return ObjenesisWrapper.getObjenesis().newInstance(proxyClass);
     }
 
     @SuppressWarnings("unchecked")
-    private static synchronized <S> Class<S> giveDynamicSubclass(Class<S> superclass) {
+    private static <S> Class<S> giveDynamicSubclass(Class<S> superclass) {
+        return (Class<S>) DYNAMIC_SUBCLASSES.get(superclass);
+    }
+
+    private static Class<?> createDynamicSubclass(Class<?> superclass) {
         boolean isSystemClass = isSystemClass(superclass.getName());
 
         String namePrefix = isSystemClass ? FALLBACK_PACKAGE_NAME : getPackageName(superclass);
@@ -83,20 +98,27 @@ public final class Instantiator<T> {
             "$$DynamicSubclass$" +
             superclass.hashCode();
 
-        Class<S> existsAlready = (Class<S>) classForName(name);
-        if (existsAlready != null) {
-            return existsAlready;
-        }
-
         Class<?> context = isSystemClass ? Instantiator.class : superclass;
         ClassLoadingStrategy<? super ClassLoader> cs = getClassLoadingStrategy(context);
-        return (Class<S>) new ByteBuddy()
-            .with(TypeValidation.DISABLED)
-            .subclass(superclass)
-            .name(name)
-            .make()
-            .load(context.getClassLoader(), cs)
-            .getLoaded();
+        try {
+            Class<?> result = new ByteBuddy()
+                .with(TypeValidation.DISABLED)
+                .subclass(superclass)
+                .name(name)
+                .make()
+                .load(context.getClassLoader(), cs)
+                .getLoaded();
+            StatisticsCollector.countDynamicSubclassGenerated();
+            return result;
+        } catch (LinkageError | IllegalStateException e) {
+            // ClassCache may compute the subclass on several threads at once. Only one of them can
+            // define it; the others can load it.
+            try {
+                return Class.forName(name, false, context.getClassLoader());
+            } catch (ClassNotFoundException ignored) {
+                throw e;
+            }
+        }
     }
 
     private static String getPackageName(Class<?> type) {
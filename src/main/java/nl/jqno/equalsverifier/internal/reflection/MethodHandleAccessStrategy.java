@@ -0,0 +1,124 @@
+package nl.jqno.equalsverifier.internal.reflection;
+
+import static java.lang.invoke.MethodType.methodType;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import nl.jqno.equalsverifier.internal.exceptions.EqualsVerifierInternalBugException;
+import nl.jqno.equalsverifier.internal.util.PrimitiveMappers;
+
+/**
+ * Accesses a field through {@link MethodHandle}s that are created once per field.
+ *
+ * <p>Copying and defaulting are done by handles that are composed from the field's own getter and
+ * setter, so primitive values flow from one object to the other without being boxed. Only {@link
+ * #get(Object)} and {@link #set(Object, Object)} box, because they deal in {@code Object}s.
+ *
+ * <p>Where {@link Field#set(Object, Object)} throws an {@link IllegalArgumentException} when the
+ * object or value has the wrong type, these handles throw a {@link ClassCastException}. It is
+ * translated back, so callers can't tell the difference.
+ */
+/* package private */final class MethodHandleAccessStrategy implements FieldAccessStrategy {
+
+    private static final MethodType GETTER_TYPE = methodType(Object.class, Object.class);
+    private static final MethodType SETTER_TYPE = methodType(
+        void.class,
+        Object.class,
+        Object.class
+    );
+    private static final MethodType DEFAULTER_TYPE = methodType(void.class, Object.class);
+
+    private final Field field;
+    private final MethodHandle getter;
+    private final MethodHandle setter;
+    private final MethodHandle copier;
+    private final MethodHandle defaulter;
+
+    /**
+     * Constructor.
+     *
+     * @param field The field to access.
+     * @param getter The result of {@code unreflectGetter(field)}.
+     * @param setter The result of {@code unreflectSetter(field)}.
+     */
+    /* package private */MethodHandleAccessStrategy(
+        Field field,
+        MethodHandle getter,
+        MethodHandle setter
+    ) {
+        this.field = field;
+        MethodHandle g = getter;
+        MethodHandle s = setter;
+        if (Modifier.isStatic(field.getModifiers())) {
+            g = MethodHandles.dropArguments(g, 0, Object.class);
+            s = MethodHandles.dropArguments(s, 0, Object.class);
+        }
+        Object defaultValue = PrimitiveMappers.DEFAULT_VALUE_MAPPER.get(field.getType());
+
+        this.getter = g.asType(GETTER_TYPE);
+        this.setter = s.asType(SETTER_TYPE);
+        this.copier = MethodHandles.filterArguments(s, 1, g).asType(SETTER_TYPE);
+        this.defaulter = MethodHandles.insertArguments(s, 1, defaultValue).asType(DEFAULTER_TYPE);
+    }
+
+    @Override
+    public Object get(Object object) {
+        try {
+            return (Object) getter.invokeExact(object);
+        } catch (Throwable e) {
+            throw propagate(e);
+        }
+    }
+
+    @Override
+    public void set(Object object, Object value) {
+        if (value == null && field.getType().isPrimitive()) {
+            throw cannotSet("null value", null);
+        }
+        try {
+            setter.invokeExact(object, value);
+        } catch (Throwable e) {
+            throw propagate(e);
+        }
+    }
+
+    @Override
+    public void copy(Object from, Object to) {
+        try {
+            copier.invokeExact(to, from);
+        } catch (Throwable e) {
+            throw propagate(e);
+        }
+    }
+
+    @Override
+    public void setToDefault(Object object) {
+        try {
+            defaulter.invokeExact(object);
+        } catch (Throwable e) {
+            throw propagate(e);
+        }
+    }
+
+    private RuntimeException propagate(Throwable e) {
+        if (e instanceof ClassCastException) {
+            return cannotSet(e.getMessage(), e);
+        }
+        if (e instanceof RuntimeException) {
+            return (RuntimeException) e;
+        }
+        if (e instanceof Error) {
+            throw (Error) e;
+        }
+        // Field getters and setters don't declare checked exceptions.
+        return new EqualsVerifierInternalBugException(e);
+    }
+
+    private IllegalArgumentException cannotSet(String detail, Throwable cause) {
+        String message = "Can not set " + field.getType().getName() + " field " + field;
+        return new IllegalArgumentException(message + " to " + detail, cause);
+    }
+}
@@ -44,20 +44,12 @@ public abstract class ObjectAccessor<T> {
      * @return An {@link ObjectAccessor} for {@link #object}.
      */
     public static <T> ObjectAccessor<T> of(T object, Class<T> type) {
-        if (isRecord(type)) {
+        if (ClassDescriptor.of(type).isRecord()) {
             return new RecordObjectAccessor<T>(object, type);
         }
         return new InPlaceObjectAccessor<>(object, type);
     }
 
-    private static boolean isRecord(Class<?> type) {
-        Class<?> record = Util.classForName("java.lang.Record");
-        if (record == null) {
-            return false;
-        }
-        return record.isAssignableFrom(type);
-    }
-
     /**
      * Returns the wrapped object.
      *
@@ -84,7 +76,7 @@ public abstract class ObjectAccessor<T> {
      */
     @SuppressWarnings("unchecked")
     public T getField(Field field) {
-        return (T) FieldAccessor.of(field).get(object);
+        return (T) FieldLayout.accessorFor(field).get(object);
     }
 
     /**
@@ -118,6 +110,18 @@ public abstract class ObjectAccessor<T> {
      */
     public abstract T copyIntoAnonymousSubclass();
 
+    /**
+     * Copies the fields of the wrapped object into an existing object of the same type, which
+     * then becomes a shallow copy of the wrapped object. This is cheaper than {@link #copy()}
+     * when the same objects are used over and over again.
+     *
+     * <p>Note: it does a "shallow" copy. Reference fields are not copied recursively.
+     *
+     * @param target The object to copy into. Must be of the wrapped object's exact type.
+     * @return {@code target}.
+     */
+    public abstract T copyInto(T target);
+
     /**
      * Modifies all fields of the wrapped object that are declared in T and in its superclasses. It
      * may or may not mutate the object of the current ObjectAccessor. Either way, the current
@@ -2,15 +2,35 @@ package nl.jqno.equalsverifier.internal.reflection;
 
 import static nl.jqno.equalsverifier.internal.util.Rethrow.rethrow;
 
-import java.io.File;
-import java.util.Arrays;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URL;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
-/** Scans a package for classes. */
+/**
+ * Scans a package for classes.
+ *
+ * <p>The package can be spread over several directories and jar files. Candidates are filtered by
+ * their name first, so that only the classes that are actually returned, get loaded.
+ */
 public final class PackageScanner {
 
+    private static final String CLASS_SUFFIX = ".class";
+
     /** Should not be instantiated. */
     private PackageScanner() {}
 
@@ -22,57 +42,153 @@ public final class PackageScanner {
      * @return the classes contained in the given package.
      */
     public static List<Class<?>> getClassesIn(String packageName, boolean scanRecursively) {
-        return getDirs(packageName)
-            .stream()
-            .flatMap(d -> getClassesInDir(packageName, d, scanRecursively).stream())
-            .collect(Collectors.toList());
+        try (Stream<Class<?>> classes = streamClassesIn(packageName, scanRecursively)) {
+            return classes.collect(Collectors.toList());
+        }
     }
 
-    private static List<File> getDirs(String packageName) {
+    /**
+     * Scans the given package for classes, lazily: directories and jar files are only read, and
+     * classes are only loaded, as the stream is consumed.
+     *
+     * <p>The stream must be closed after use, to release any jar files that were opened.
+     *
+     * @param packageName The package to scan.
+     * @param scanRecursively true to scan all sub-packages
+     * @return the classes contained in the given package.
+     */
+    public static Stream<Class<?>> streamClassesIn(String packageName, boolean scanRecursively) {
+        int maxDepth = scanRecursively ? Integer.MAX_VALUE : 1;
+        return classNamesIn(packageName, getRoots(packageName), maxDepth)
+            .filter(PackageScanner::isCandidate)
+            .map(PackageScanner::nameToClass)
+            .filter(c -> !c.isAnonymousClass())
+            .filter(c -> !c.isLocalClass());
+    }
+
+    private static List<URL> getRoots(String packageName) {
         ClassLoader cl = Thread.currentThread().getContextClassLoader();
         String path = packageName.replace('.', '/');
         return rethrow(
-            () ->
-                Collections
-                    .list(cl.getResources(path))
-                    .stream()
-                    .map(r -> new File(r.getFile()))
-                    .collect(Collectors.toList()),
+            () -> Collections.list(cl.getResources(path)),
             "Could not scan package " + packageName
         );
     }
 
-    private static List<Class<?>> getClassesInDir(
-        String packageName,
-        File dir,
-        boolean scanRecursively
-    ) {
-        if (!dir.exists()) {
-            return Collections.emptyList();
-        }
-        return Arrays
-            .stream(dir.listFiles())
-            .filter(f -> (scanRecursively && f.isDirectory()) || f.getName().endsWith(".class"))
-            .flatMap(f -> {
-                List<Class<?>> classes;
-                if (f.isDirectory()) {
-                    classes = getClassesInDir(packageName + "." + f.getName(), f, scanRecursively);
-                } else {
-                    classes = Collections.singletonList(fileToClass(packageName, f));
+    /*
+     * Concatenates the class names in the given roots. Unlike flatMap, which on Java 8 pushes all
+     * elements of an inner stream at once, this opens a root and reads its names only when they're
+     * consumed.
+     */
+    private static Stream<String> classNamesIn(String packageName, List<URL> roots, int maxDepth) {
+        List<Stream<String>> opened = new ArrayList<>();
+        Iterator<String> names = new Iterator<String>() {
+            private final Iterator<URL> remaining = roots.iterator();
+            private Iterator<String> current = Collections.emptyIterator();
+
+            @Override
+            public boolean hasNext() {
+                while (!current.hasNext() && remaining.hasNext()) {
+                    Stream<String> next = classNamesIn(packageName, remaining.next(), maxDepth);
+                    opened.add(next);
+                    current = next.iterator();
                 }
-                return classes.stream();
-            })
-            .filter(c -> !c.isAnonymousClass())
-            .filter(c -> !c.isLocalClass())
-            .filter(c -> !c.getName().endsWith("Test"))
-            .collect(Collectors.toList());
+                return current.hasNext();
+            }
+
+            @Override
+            public String next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return current.next();
+            }
+        };
+        return StreamSupport
+            .stream(Spliterators.spliteratorUnknownSize(names, Spliterator.ORDERED), false)
+            .onClose(() -> opened.forEach(Stream::close));
+    }
+
+    private static Stream<String> classNamesIn(String packageName, URL url, int maxDepth) {
+        return rethrow(
+            () -> {
+                if ("jar".equals(url.getProtocol())) {
+                    return classNamesInJar(packageName, url, maxDepth);
+                }
+                if ("file".equals(url.getProtocol())) {
+                    return classNamesInDir(packageName, Paths.get(url.toURI()), maxDepth);
+                }
+                return Stream.<String>empty();
+            },
+            "Could not scan package " + packageName + " in " + url
+        );
+    }
+
+    private static Stream<String> classNamesInJar(String packageName, URL url, int maxDepth)
+        throws IOException {
+        String spec = url.toString();
+        int separator = spec.indexOf("!/");
+        Path jar = Paths.get(URI.create(spec.substring("jar:".length(), separator)));
+        String path = spec.substring(separator + 1);
+
+        // A FileSystem that's opened from a Path isn't registered with its provider, so every scan
+        // gets its own, and can close it without affecting other scans of the same jar.
+        FileSystem fs = FileSystems.newFileSystem(jar, (ClassLoader) null);
+        try {
+            return classNamesInDir(packageName, fs.getPath(path), maxDepth)
+                .onClose(() -> rethrow(fs::close));
+        } catch (IOException | RuntimeException e) {
+            fs.close();
+            throw e;
+        }
+    }
+
+    private static Stream<String> classNamesInDir(String packageName, Path root, int maxDepth)
+        throws IOException {
+        if (!Files.isDirectory(root)) {
+            return Stream.empty();
+        }
+        return Files
+            .walk(root, maxDepth)
+            .filter(p -> p.getFileName().toString().endsWith(CLASS_SUFFIX))
+            .filter(Files::isRegularFile)
+            .map(p -> toClassName(packageName, root.relativize(p)));
+    }
+
+    private static String toClassName(String packageName, Path relative) {
+        StringBuilder result = new StringBuilder(packageName);
+        StreamSupport
+            .stream(relative.spliterator(), false)
+            .forEach(segment -> result.append('.').append(segment));
+        return result.substring(0, result.length() - CLASS_SUFFIX.length());
+    }
+
+    /*
+     * Anonymous and local classes can be recognized by their binary name: the part after a '$'
+     * starts with a digit. Classes with a '-' in their name, like package-info, can't be verified.
+     */
+    private static boolean isCandidate(String className) {
+        if (className.endsWith("Test") || className.indexOf('-') >= 0) {
+            return false;
+        }
+        int dollar = className.indexOf('$');
+        while (dollar >= 0 && dollar + 1 < className.length()) {
+            if (Character.isDigit(className.charAt(dollar + 1))) {
+                return false;
+            }
+            dollar = className.indexOf('$', dollar + 1);
+        }
+        return true;
     }
 
-    private static Class<?> fileToClass(String packageName, File file) {
-        String className = file.getName().substring(0, file.getName().length() - 6);
+    private static Class<?> nameToClass(String className) {
+        int dot = className.lastIndexOf('.');
         return rethrow(
-            () -> Class.forName(packageName + "." + className),
-            "Could not resolve class " + className + ", which was found in package " + packageName
+            () -> Class.forName(className),
+            "Could not resolve class " +
+            className.substring(dot + 1) +
+            ", which was found in package " +
+            className.substring(0, dot)
         );
     }
 }
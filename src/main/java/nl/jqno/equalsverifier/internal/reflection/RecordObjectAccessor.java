@@ -14,6 +14,7 @@ import nl.jqno.equalsverifier.internal.exceptions.EqualsVerifierInternalBugExcep
 import nl.jqno.equalsverifier.internal.prefabvalues.PrefabValues;
 import nl.jqno.equalsverifier.internal.prefabvalues.TypeTag;
 import nl.jqno.equalsverifier.internal.util.PrimitiveMappers;
+import nl.jqno.equalsverifier.internal.util.StatisticsCollector;
 
 /**
  * Implementation of ObjectAccessor that returns modified copies of its wrapped object, through
@@ -55,6 +56,12 @@ final class RecordObjectAccessor<T> extends ObjectAccessor<T> {
         );
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public T copyInto(T target) {
+        throw new EqualsVerifierInternalBugException("Can't copy into an existing record.");
+    }
+
     /** {@inheritDoc} */
     @Override
     public ObjectAccessor<T> scramble(PrefabValues prefabValues, TypeTag enclosingType) {
@@ -137,6 +144,7 @@ final class RecordObjectAccessor<T> extends ObjectAccessor<T> {
     }
 
     private T callRecordConstructor(List<?> params) {
+        StatisticsCollector.countObjectInstantiated();
         return rethrow(
             () -> constructor.newInstance(params.toArray(new Object[0])),
             "Record: failed to invoke constructor."
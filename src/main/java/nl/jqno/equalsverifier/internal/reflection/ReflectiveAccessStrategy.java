@@ -0,0 +1,43 @@
+package nl.jqno.equalsverifier.internal.reflection;
+
+import java.lang.reflect.Field;
+import nl.jqno.equalsverifier.internal.util.PrimitiveMappers;
+
+/**
+ * Accesses a field through {@link Field#get(Object)} and {@link Field#set(Object, Object)}.
+ *
+ * <p>Makes the field accessible on every call, so that if this fails, it fails at the same moment
+ * as it always did.
+ */
+/* package private */final class ReflectiveAccessStrategy implements FieldAccessStrategy {
+
+    private final Field field;
+
+    /* package private */ReflectiveAccessStrategy(Field field) {
+        this.field = field;
+    }
+
+    @Override
+    public Object get(Object object) throws IllegalAccessException {
+        field.setAccessible(true);
+        return field.get(object);
+    }
+
+    @Override
+    public void set(Object object, Object value) throws IllegalAccessException {
+        field.setAccessible(true);
+        field.set(object, value);
+    }
+
+    @Override
+    public void copy(Object from, Object to) throws IllegalAccessException {
+        field.setAccessible(true);
+        field.set(to, field.get(from));
+    }
+
+    @Override
+    public void setToDefault(Object object) throws IllegalAccessException {
+        field.setAccessible(true);
+        field.set(object, PrimitiveMappers.DEFAULT_VALUE_MAPPER.get(field.getType()));
+    }
+}
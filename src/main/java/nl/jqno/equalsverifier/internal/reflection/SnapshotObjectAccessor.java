@@ -0,0 +1,154 @@
+package nl.jqno.equalsverifier.internal.reflection;
+
+import java.lang.reflect.Field;
+import java.util.BitSet;
+import java.util.function.Predicate;
+import nl.jqno.equalsverifier.internal.exceptions.ReflectionException;
+import nl.jqno.equalsverifier.internal.prefabvalues.PrefabValues;
+import nl.jqno.equalsverifier.internal.prefabvalues.TypeTag;
+
+/**
+ * Implementation of ObjectAccessor that remembers the values of the wrapped object's fields when
+ * it's created, so that the object can be restored to that state and used again, instead of
+ * instantiating and scrambling a new one.
+ *
+ * <p>It keeps track of the fields that are changed through it, so that {@link #restore()} only has
+ * to write those back. Fields that are changed behind its back, for instance by an {@code equals}
+ * method that caches a value, are found by comparing them to the snapshot.
+ *
+ * <p>Records are never modified in place, so for records, this accessor simply hands out the
+ * modified copies, and restoring is not necessary.
+ *
+ * @param <T> The specified object's class.
+ */
+public final class SnapshotObjectAccessor<T> extends ObjectAccessor<T> {
+
+    private final ObjectAccessor<T> delegate;
+    private final FieldAccessPlan plan;
+    private final Object[] snapshot;
+    private final BitSet touched;
+
+    private SnapshotObjectAccessor(ObjectAccessor<T> delegate) {
+        super(delegate.get(), delegate.type());
+        this.delegate = delegate;
+        if (delegate instanceof InPlaceObjectAccessor) {
+            this.plan = FieldAccessPlan.of(delegate.type());
+            this.snapshot = plan.snapshot(delegate.get());
+            this.touched = new BitSet(snapshot.length);
+        } else {
+            this.plan = null;
+            this.snapshot = null;
+            this.touched = null;
+        }
+    }
+
+    /**
+     * Factory method. Takes a snapshot of the object's current state.
+     *
+     * @param <T> The object's type.
+     * @param accessor An accessor for the object to take a snapshot of.
+     * @return A {@link SnapshotObjectAccessor} for the object.
+     */
+    public static <T> SnapshotObjectAccessor<T> of(ObjectAccessor<T> accessor) {
+        return new SnapshotObjectAccessor<>(accessor);
+    }
+
+    /**
+     * Restores the wrapped object to the state it was in when this accessor was created.
+     *
+     * @throws ReflectionException If the operation fails.
+     */
+    public void restore() {
+        if (plan != null) {
+            plan.restore(get(), snapshot, touched);
+            touched.clear();
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public T copy() {
+        return delegate.copy();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public <S extends T> S copyIntoSubclass(Class<S> subclass) {
+        return delegate.copyIntoSubclass(subclass);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public T copyIntoAnonymousSubclass() {
+        return delegate.copyIntoAnonymousSubclass();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public T copyInto(T target) {
+        return delegate.copyInto(target);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ObjectAccessor<T> scramble(PrefabValues prefabValues, TypeTag enclosingType) {
+        return touchAll(delegate.scramble(prefabValues, enclosingType));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ObjectAccessor<T> shallowScramble(PrefabValues prefabValues, TypeTag enclosingType) {
+        return touchAll(delegate.shallowScramble(prefabValues, enclosingType));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ObjectAccessor<T> clear(
+        Predicate<Field> canBeDefault,
+        PrefabValues prefabValues,
+        TypeTag enclosingType
+    ) {
+        return touchAll(delegate.clear(canBeDefault, prefabValues, enclosingType));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ObjectAccessor<T> withDefaultedField(Field field) {
+        return touch(field, delegate.withDefaultedField(field));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ObjectAccessor<T> withChangedField(
+        Field field,
+        PrefabValues prefabValues,
+        TypeTag enclosingType
+    ) {
+        return touch(field, delegate.withChangedField(field, prefabValues, enclosingType));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ObjectAccessor<T> withFieldSetTo(Field field, Object newValue) {
+        return touch(field, delegate.withFieldSetTo(field, newValue));
+    }
+
+    private ObjectAccessor<T> touch(Field field, ObjectAccessor<T> result) {
+        if (result != delegate) {
+            return result;
+        }
+        int i = plan.indexOf(field);
+        if (i >= 0) {
+            touched.set(i);
+        }
+        return this;
+    }
+
+    private ObjectAccessor<T> touchAll(ObjectAccessor<T> result) {
+        if (result != delegate) {
+            return result;
+        }
+        touched.set(0, snapshot.length);
+        return this;
+    }
+}
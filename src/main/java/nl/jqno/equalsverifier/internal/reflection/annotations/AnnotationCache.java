@@ -34,6 +34,13 @@ public class AnnotationCache {
         cache.get(type).addFieldAnnotation(fieldName, annotation);
     }
 
+    public void addAll(AnnotationCache other) {
+        for (Map.Entry<Class<?>, AnnotationClassCache> entry : other.cache.entrySet()) {
+            ensureEntry(entry.getKey());
+            cache.get(entry.getKey()).addAll(entry.getValue());
+        }
+    }
+
     private void ensureEntry(Class<?> type) {
         if (!hasResolved(type)) {
             cache.put(type, new AnnotationClassCache());
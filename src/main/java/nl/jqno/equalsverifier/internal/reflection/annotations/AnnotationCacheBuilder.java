@@ -15,18 +15,41 @@ import net.bytebuddy.description.method.MethodList;
 import net.bytebuddy.description.type.TypeDescription;
 import net.bytebuddy.pool.TypePool;
 import nl.jqno.equalsverifier.internal.reflection.SuperclassIterable;
+import nl.jqno.equalsverifier.internal.util.JfrEvent;
+import nl.jqno.equalsverifier.internal.util.JfrEventType;
 
 public class AnnotationCacheBuilder {
 
     private final List<Annotation> supportedAnnotations;
     private final Set<String> ignoredAnnotations;
+    private final boolean reflective;
 
     public AnnotationCacheBuilder(
         Annotation[] supportedAnnotations,
         Set<String> ignoredAnnotations
+    ) {
+        this(supportedAnnotations, ignoredAnnotations, false);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param supportedAnnotations The annotations to look for.
+     * @param ignoredAnnotations The canonical names of annotations that should be ignored.
+     * @param reflective Whether to look for annotations through reflection first. Reflection only
+     *     sees annotations with {@link java.lang.annotation.RetentionPolicy#RUNTIME}, but doesn't
+     *     need to parse class files. If it finds no annotations at all, the class files are parsed
+     *     anyway, in case the type has annotations with {@link
+     *     java.lang.annotation.RetentionPolicy#CLASS}.
+     */
+    public AnnotationCacheBuilder(
+        Annotation[] supportedAnnotations,
+        Set<String> ignoredAnnotations,
+        boolean reflective
     ) {
         this.supportedAnnotations = Arrays.asList(supportedAnnotations);
         this.ignoredAnnotations = Collections.unmodifiableSet(ignoredAnnotations);
+        this.reflective = reflective;
     }
 
     public void build(Class<?> type, AnnotationCache cache) {
@@ -34,17 +57,52 @@ public class AnnotationCacheBuilder {
             return;
         }
 
-        try {
-            TypePool pool = TypePool.Default.of(type.getClassLoader());
-            TypeDescription typeDescription = pool.describe(type.getName()).resolve();
+        if (reflective) {
+            // Reflection works on a scratch cache, so that nothing it found is kept if it fails
+            // halfway through.
+            AnnotationCache scratch = new AnnotationCache();
+            boolean found = false;
+            JfrEvent event = JfrEventType.ANNOTATION_SCAN.begin();
+            try {
+                visitAll(type, scratch, null);
+                found = scratch.hasResolved(type);
+            } catch (RuntimeException ignored) {
+                // Reflection can fail on missing annotation types; the class files will tell.
+            } finally {
+                event.commit(type, "reflection");
+            }
+            if (found) {
+                cache.addAll(scratch);
+                return;
+            }
+        }
 
-            visitType(setOf(type), cache, typeDescription, false);
-            visitSuperclasses(type, cache, pool);
-            visitOuterClasses(type, cache, pool);
-            visitPackage(type, cache, pool);
+        JfrEvent event = JfrEventType.ANNOTATION_SCAN.begin();
+        try {
+            visitAll(type, cache, SharedAnnotationCache.typePoolFor(type.getClassLoader()));
         } catch (IllegalStateException ignored) {
             // Just ignore this class if it can't be processed.
+        } finally {
+            event.commit(type, "class files");
+        }
+    }
+
+    // If pool is null, the types are described through reflection instead of through their class
+    // files.
+    private void visitAll(Class<?> type, AnnotationCache cache, TypePool pool) {
+        TypeDescription typeDescription = describe(type, pool);
+
+        visitType(setOf(type), cache, typeDescription, false);
+        visitSuperclasses(type, cache, pool);
+        visitOuterClasses(type, cache, pool);
+        visitPackage(type, cache, pool);
+    }
+
+    private TypeDescription describe(Class<?> type, TypePool pool) {
+        if (pool == null) {
+            return TypeDescription.ForLoadedType.of(type);
         }
+        return pool.describe(type.getName()).resolve();
     }
 
     private void visitType(
@@ -59,7 +117,7 @@ public class AnnotationCacheBuilder {
 
     private void visitSuperclasses(Class<?> type, AnnotationCache cache, TypePool pool) {
         for (Class<?> c : SuperclassIterable.of(type)) {
-            TypeDescription typeDescription = pool.describe(c.getName()).resolve();
+            TypeDescription typeDescription = describe(c, pool);
             visitType(setOf(type, c), cache, typeDescription, true);
         }
     }
@@ -67,7 +125,7 @@ public class AnnotationCacheBuilder {
     private void visitOuterClasses(Class<?> type, AnnotationCache cache, TypePool pool) {
         Class<?> outer = type.getDeclaringClass();
         while (outer != null) {
-            TypeDescription typeDescription = pool.describe(outer.getName()).resolve();
+            TypeDescription typeDescription = describe(outer, pool);
             visitType(setOf(type, outer), cache, typeDescription, false);
 
             outer = outer.getDeclaringClass();
@@ -83,9 +141,13 @@ public class AnnotationCacheBuilder {
         String className = pkg.getName() + ".package-info";
 
         try {
-            TypeDescription typeDescription = pool.describe(className).resolve();
+            TypeDescription typeDescription = pool == null
+                ? TypeDescription.ForLoadedType.of(
+                    Class.forName(className, false, type.getClassLoader())
+                )
+                : pool.describe(className).resolve();
             visitType(setOf(type), cache, typeDescription, false);
-        } catch (IllegalStateException e) {
+        } catch (ClassNotFoundException | IllegalStateException e) {
             // No package object; do nothing.
         }
     }
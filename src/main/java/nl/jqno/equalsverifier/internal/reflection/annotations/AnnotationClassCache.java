@@ -37,4 +37,13 @@ class AnnotationClassCache {
         }
         fieldAnnotations.get(fieldName).add(annotation);
     }
+
+    public void addAll(AnnotationClassCache other) {
+        classAnnotations.addAll(other.classAnnotations);
+        for (Map.Entry<String, Set<Annotation>> entry : other.fieldAnnotations.entrySet()) {
+            fieldAnnotations
+                .computeIfAbsent(entry.getKey(), k -> new HashSet<>())
+                .addAll(entry.getValue());
+        }
+    }
 }
@@ -0,0 +1,123 @@
+package nl.jqno.equalsverifier.internal.reflection.annotations;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import net.bytebuddy.dynamic.ClassFileLocator;
+import net.bytebuddy.pool.TypePool;
+import nl.jqno.equalsverifier.internal.util.ClassCache;
+
+/**
+ * Keeps the {@link AnnotationCache}s that were built for earlier verifications, so that the class
+ * files of a type, its superclasses, its outer classes and its package are parsed only once, even
+ * if many types share them.
+ *
+ * <p>An {@link AnnotationCache} is keyed by the type it was built for, by the set of ignored
+ * annotations and by whether it was built through reflection, and must not be modified after it
+ * has been built. The caches are released together with the classes and ClassLoaders they
+ * describe.
+ */
+public final class SharedAnnotationCache {
+
+    private static volatile ClassCache<ConcurrentMap<Key, AnnotationCache>> caches =
+        newCaches();
+    private static final Map<ClassLoader, TypePool> TYPE_POOLS = new WeakHashMap<>();
+
+    /** Do not instantiate. */
+    private SharedAnnotationCache() {}
+
+    /**
+     * Returns the {@link AnnotationCache} for the given type, building it if necessary.
+     *
+     * @param type The type to build the cache for.
+     * @param ignoredAnnotations The canonical names of annotations that should be ignored.
+     * @param reflective Whether to look for annotations through reflection first. See {@link
+     *     AnnotationCacheBuilder#AnnotationCacheBuilder(Annotation[], Set, boolean)}.
+     * @return An {@link AnnotationCache} for {@code type}. It must not be modified.
+     */
+    public static AnnotationCache get(
+        Class<?> type,
+        Set<String> ignoredAnnotations,
+        boolean reflective
+    ) {
+        ConcurrentMap<Key, AnnotationCache> forType = caches.get(type);
+        Key key = new Key(ignoredAnnotations, reflective);
+        AnnotationCache result = forType.get(key);
+        if (result != null) {
+            return result;
+        }
+
+        AnnotationCacheBuilder acb = new AnnotationCacheBuilder(
+            SupportedAnnotations.values(),
+            key.ignoredAnnotations,
+            reflective
+        );
+        AnnotationCache cache = new AnnotationCache();
+        acb.build(type, cache);
+
+        AnnotationCache existing = forType.putIfAbsent(key, cache);
+        return existing == null ? cache : existing;
+    }
+
+    /**
+     * Returns a {@link TypePool} for the given ClassLoader, which keeps the class files it has
+     * parsed. The pool doesn't keep the ClassLoader from being garbage collected.
+     *
+     * @param classLoader The ClassLoader to load class files from.
+     * @return A {@link TypePool} for {@code classLoader}.
+     */
+    public static TypePool typePoolFor(ClassLoader classLoader) {
+        synchronized (TYPE_POOLS) {
+            return TYPE_POOLS.computeIfAbsent(
+                classLoader,
+                cl -> TypePool.Default.of(ClassFileLocator.ForClassLoader.WeaklyReferenced.of(cl))
+            );
+        }
+    }
+
+    /** Forgets all {@link AnnotationCache}s and {@link TypePool}s. */
+    public static void clear() {
+        caches = newCaches();
+        synchronized (TYPE_POOLS) {
+            TYPE_POOLS.clear();
+        }
+    }
+
+    private static ClassCache<ConcurrentMap<Key, AnnotationCache>> newCaches() {
+        return new ClassCache<>(type -> new ConcurrentHashMap<>());
+    }
+
+    private static final class Key {
+
+        private final Set<String> ignoredAnnotations;
+        private final boolean reflective;
+
+        private Key(Set<String> ignoredAnnotations, boolean reflective) {
+            this.ignoredAnnotations =
+                Collections.unmodifiableSet(new HashSet<>(ignoredAnnotations));
+            this.reflective = reflective;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) obj;
+            return (
+                reflective == other.reflective &&
+                ignoredAnnotations.equals(other.ignoredAnnotations)
+            );
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(ignoredAnnotations, reflective);
+        }
+    }
+}
@@ -26,6 +26,36 @@ public final class Assert {
         }
     }
 
+    /**
+     * Asserts that two ints are equal to one another. Does nothing if they are; throws an
+     * AssertionException if they're not.
+     *
+     * @param message Message to be included in the {@link AssertionException}.
+     * @param expected Expected value.
+     * @param actual Actual value.
+     * @throws AssertionException If {@code expected} and {@code actual} are not equal.
+     */
+    public static void assertEquals(Formatter message, int expected, int actual) {
+        if (expected != actual) {
+            throw new AssertionException(message);
+        }
+    }
+
+    /**
+     * Asserts that two booleans are equal to one another. Does nothing if they are; throws an
+     * AssertionException if they're not.
+     *
+     * @param message Message to be included in the {@link AssertionException}.
+     * @param expected Expected value.
+     * @param actual Actual value.
+     * @throws AssertionException If {@code expected} and {@code actual} are not equal.
+     */
+    public static void assertEquals(Formatter message, boolean expected, boolean actual) {
+        if (expected != actual) {
+            throw new AssertionException(message);
+        }
+    }
+
     /**
      * Asserts that an assertion is true. Does nothing if it is; throws an AssertionException if it
      * isn't.
@@ -91,7 +91,7 @@ public class CachedHashCodeInitializer<T> {
         if (!passthrough) {
             recomputeCachedHashCode(object);
         }
-        return object.hashCode();
+        return StatisticsCollector.invokeHashCode(object);
     }
 
     private void recomputeCachedHashCode(Object object) {
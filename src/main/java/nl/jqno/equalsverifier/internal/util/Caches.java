@@ -0,0 +1,23 @@
+package nl.jqno.equalsverifier.internal.util;
+
+import nl.jqno.equalsverifier.internal.prefabvalues.JavaApiPrefabValues;
+import nl.jqno.equalsverifier.internal.prefabvalues.SharedCache;
+import nl.jqno.equalsverifier.internal.reflection.annotations.SharedAnnotationCache;
+
+/** Resets the caches that EqualsVerifier keeps between verifications. */
+public final class Caches {
+
+    /** Do not instantiate. */
+    private Caches() {}
+
+    /**
+     * Resets all caches, so that nothing that was created for one verification, can leak into the
+     * next one.
+     */
+    public static void reset() {
+        ObjenesisWrapper.reset();
+        JavaApiPrefabValues.reset();
+        SharedCache.getInstance().clear();
+        SharedAnnotationCache.clear();
+    }
+}
@@ -0,0 +1,82 @@
+package nl.jqno.equalsverifier.internal.util;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * Computes a value once per class, like {@link ClassValue}, without keeping EqualsVerifier's
+ * ClassLoader from being garbage collected.
+ *
+ * <p>A value that's stored in a {@link ClassValue} stays reachable for as long as its class does,
+ * and so does EqualsVerifier's ClassLoader, which loaded the value's class. That's fine for classes
+ * that can't outlive EqualsVerifier anyway. But the classes of the JDK, and of the other
+ * ClassLoaders that EqualsVerifier's ClassLoader delegates to, are never unloaded before
+ * EqualsVerifier is. Their values are kept in a map that belongs to this cache instead.
+ *
+ * @param <V> The type of the values.
+ */
+public final class ClassCache<V> {
+
+    private static final ClassLoader OWN_CLASSLOADER = ClassCache.class.getClassLoader();
+
+    private final Function<Class<?>, V> compute;
+    private final ClassValue<V> values;
+    private final ConcurrentMap<Class<?>, V> longLivedValues = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor.
+     *
+     * @param compute Computes the value for a class. May be called more than once for the same
+     *     class if several threads ask for it at the same time, but only one of the results is
+     *     kept. May call {@link #get(Class)} recursively for other classes.
+     */
+    public ClassCache(Function<Class<?>, V> compute) {
+        this.compute = compute;
+        this.values =
+            new ClassValue<V>() {
+                @Override
+                protected V computeValue(Class<?> type) {
+                    return compute.apply(type);
+                }
+            };
+    }
+
+    /**
+     * Returns the value for the given class, computing it if necessary.
+     *
+     * @param type The class to get the value for.
+     * @return The value for {@code type}.
+     */
+    public V get(Class<?> type) {
+        if (!outlivesEqualsVerifier(type)) {
+            return values.get(type);
+        }
+        V result = longLivedValues.get(type);
+        if (result == null) {
+            // Not computeIfAbsent: compute may recurse into this map for a superclass.
+            result = compute.apply(type);
+            V existing = longLivedValues.putIfAbsent(type, result);
+            if (existing != null) {
+                result = existing;
+            }
+        }
+        return result;
+    }
+
+    private static boolean outlivesEqualsVerifier(Class<?> type) {
+        ClassLoader cl = type.getClassLoader();
+        if (cl == OWN_CLASSLOADER) {
+            return false;
+        }
+        if (cl == null) {
+            return true;
+        }
+        for (ClassLoader p = OWN_CLASSLOADER; p != null; p = p.getParent()) {
+            if (p == cl) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
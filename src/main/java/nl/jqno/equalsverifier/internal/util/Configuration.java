@@ -8,11 +8,12 @@ import nl.jqno.equalsverifier.Warning;
 import nl.jqno.equalsverifier.internal.prefabvalues.FactoryCache;
 import nl.jqno.equalsverifier.internal.prefabvalues.JavaApiPrefabValues;
 import nl.jqno.equalsverifier.internal.prefabvalues.PrefabValues;
+import nl.jqno.equalsverifier.internal.prefabvalues.SharedCache;
 import nl.jqno.equalsverifier.internal.prefabvalues.TypeTag;
 import nl.jqno.equalsverifier.internal.reflection.ClassAccessor;
 import nl.jqno.equalsverifier.internal.reflection.annotations.Annotation;
 import nl.jqno.equalsverifier.internal.reflection.annotations.AnnotationCache;
-import nl.jqno.equalsverifier.internal.reflection.annotations.AnnotationCacheBuilder;
+import nl.jqno.equalsverifier.internal.reflection.annotations.SharedAnnotationCache;
 import nl.jqno.equalsverifier.internal.reflection.annotations.SupportedAnnotations;
 
 public final class Configuration<T> {
@@ -24,6 +25,8 @@ public final class Configuration<T> {
     private final Class<? extends T> redefinedSubclass;
     private final boolean usingGetClass;
     private final EnumSet<Warning> warningsToSuppress;
+    private final int fieldParallelism;
+    private final Scheduler scheduler;
 
     private final TypeTag typeTag;
     private final PrefabValues prefabValues;
@@ -48,6 +51,8 @@ public final class Configuration<T> {
         Class<? extends T> redefinedSubclass,
         boolean usingGetClass,
         EnumSet<Warning> warningsToSuppress,
+        int fieldParallelism,
+        Scheduler scheduler,
         List<T> equalExamples,
         List<T> unequalExamples
     ) {
@@ -63,6 +68,8 @@ public final class Configuration<T> {
         this.redefinedSubclass = redefinedSubclass;
         this.usingGetClass = usingGetClass;
         this.warningsToSuppress = warningsToSuppress;
+        this.fieldParallelism = fieldParallelism;
+        this.scheduler = scheduler;
         this.equalExamples = equalExamples;
         this.unequalExamples = unequalExamples;
     }
@@ -78,16 +85,27 @@ public final class Configuration<T> {
         boolean usingGetClass,
         EnumSet<Warning> warningsToSuppress,
         FactoryCache factoryCache,
+        boolean sharedPrefabValueCache,
         Set<String> ignoredAnnotationClassNames,
+        boolean reflectiveAnnotationScanning,
+        int fieldParallelism,
+        boolean virtualThreads,
         Set<String> actualFields,
         List<T> equalExamples,
         List<T> unequalExamples
     ) {
         TypeTag typeTag = new TypeTag(type);
-        FactoryCache cache = JavaApiPrefabValues.build().merge(factoryCache);
-        PrefabValues prefabValues = new PrefabValues(cache);
+        FactoryCache cache = JavaApiPrefabValues.frozen().withOverlay(factoryCache);
+        PrefabValues prefabValues = new PrefabValues(
+            cache,
+            sharedPrefabValueCache ? SharedCache.getInstance() : null
+        );
         ClassAccessor<T> classAccessor = ClassAccessor.of(type, prefabValues);
-        AnnotationCache annotationCache = buildAnnotationCache(type, ignoredAnnotationClassNames);
+        AnnotationCache annotationCache = SharedAnnotationCache.get(
+            type,
+            ignoredAnnotationClassNames,
+            reflectiveAnnotationScanning
+        );
         Set<String> ignoredFields = determineIgnoredFields(
             type,
             annotationCache,
@@ -111,6 +129,8 @@ public final class Configuration<T> {
             redefinedSubclass,
             usingGetClass,
             warningsToSuppress,
+            fieldParallelism,
+            Scheduler.of(virtualThreads),
             equalExamples,
             unequals
         );
@@ -118,19 +138,6 @@ public final class Configuration<T> {
 
     // CHECKSTYLE ON: ParameterNumber
 
-    private static <T> AnnotationCache buildAnnotationCache(
-        Class<T> type,
-        Set<String> ignoredAnnotationClassNames
-    ) {
-        AnnotationCacheBuilder acb = new AnnotationCacheBuilder(
-            SupportedAnnotations.values(),
-            ignoredAnnotationClassNames
-        );
-        AnnotationCache cache = new AnnotationCache();
-        acb.build(type, cache);
-        return cache;
-    }
-
     private static <T> Set<String> determineIgnoredFields(
         Class<T> type,
         AnnotationCache annotationCache,
@@ -229,6 +236,14 @@ public final class Configuration<T> {
         return EnumSet.copyOf(warningsToSuppress);
     }
 
+    public int getFieldParallelism() {
+        return fieldParallelism;
+    }
+
+    public Scheduler getScheduler() {
+        return scheduler;
+    }
+
     public List<T> getEqualExamples() {
         return Collections.unmodifiableList(equalExamples);
     }
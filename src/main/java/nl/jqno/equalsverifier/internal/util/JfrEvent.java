@@ -0,0 +1,34 @@
+package nl.jqno.equalsverifier.internal.util;
+
+/**
+ * A Java Flight Recorder event that has begun, and that still has to be committed.
+ *
+ * @see JfrEventType
+ */
+public interface JfrEvent {
+    /** An event that records nothing. */
+    JfrEvent NOOP = new JfrEvent() {
+        @Override
+        public void commit(Object value) {}
+
+        @Override
+        public void commit(Object value1, Object value2) {}
+    };
+
+    /**
+     * Ends an event with one field, and commits it to the running recordings.
+     *
+     * @param value The value of the field of the event. It's converted to a String, but only if
+     *     the event is actually recorded.
+     */
+    void commit(Object value);
+
+    /**
+     * Ends an event with two fields, and commits it to the running recordings.
+     *
+     * @param value1 The value of the first field that the event type declares.
+     * @param value2 The value of the second field that the event type declares. Both values are
+     *     converted to Strings, but only if the event is actually recorded.
+     */
+    void commit(Object value1, Object value2);
+}
@@ -0,0 +1,232 @@
+package nl.jqno.equalsverifier.internal.util;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The Java Flight Recorder events that EqualsVerifier emits, so that a JVM that runs with {@code
+ * -XX:StartFlightRecording} shows where EqualsVerifier spends its time, next to allocations and
+ * class loading. The events are in the category "EqualsVerifier".
+ *
+ * <p>EqualsVerifier is compiled for Java 8, so the event types are defined at runtime with {@code
+ * jdk.jfr.EventFactory}, which is looked up reflectively and called through method handles. On
+ * JVMs without Flight Recorder, the events record nothing. When no recording is running, {@link
+ * #begin()} costs a single call to {@code EventType.isEnabled()}, without boxing or allocation.
+ *
+ * <p>Flight Recorder must not make a verification fail, so exceptions while recording an event are
+ * ignored. {@link Error}s, such as an OutOfMemoryError, are not: they propagate as usual.
+ */
+public final class JfrEventType {
+
+    /** The verification of a single class. */
+    public static final JfrEventType CLASS_VERIFICATION = create(
+        "ClassVerification",
+        "Class Verification",
+        "type"
+    );
+
+    /** A single checker, run on a single class. */
+    public static final JfrEventType CHECKER = create("Checker", "Checker", "type", "checker");
+
+    /** The creation of prefab values, by the given factory, for the given TypeTag. */
+    public static final JfrEventType PREFAB_CREATION = create(
+        "PrefabCreation",
+        "Prefab Value Creation",
+        "typeTag",
+        "factory"
+    );
+
+    /** Scanning a class for annotations, through reflection or by reading its class files. */
+    public static final JfrEventType ANNOTATION_SCAN = create(
+        "AnnotationScan",
+        "Annotation Scan",
+        "type",
+        "source"
+    );
+
+    private static final String NAME_PREFIX = "nl.jqno.equalsverifier.";
+    private static final String CATEGORY = "EqualsVerifier";
+
+    private final MethodHandle isEnabled;
+    private final MethodHandle newEvent;
+
+    private JfrEventType(MethodHandle isEnabled, MethodHandle newEvent) {
+        this.isEnabled = isEnabled;
+        this.newEvent = newEvent;
+    }
+
+    /**
+     * Begins an event of this type.
+     *
+     * @return The event, to be committed when the work it records has finished; {@link
+     *     JfrEvent#NOOP} if Flight Recorder is not available, or if no recording includes this
+     *     event type.
+     */
+    public JfrEvent begin() {
+        if (isEnabled == null) {
+            return JfrEvent.NOOP;
+        }
+        try {
+            if (!(boolean) isEnabled.invokeExact()) {
+                return JfrEvent.NOOP;
+            }
+            Object event = (Object) newEvent.invokeExact();
+            Handles.INSTANCE.begin.invokeExact(event);
+            return new Recorded(event);
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable e) {
+            return JfrEvent.NOOP;
+        }
+    }
+
+    private static String asString(Object value) {
+        if (value instanceof Class) {
+            return ((Class<?>) value).getName();
+        }
+        return String.valueOf(value);
+    }
+
+    private static JfrEventType create(String name, String label, String... fields) {
+        Handles jfr = Handles.INSTANCE;
+        if (jfr == null) {
+            return new JfrEventType(null, null);
+        }
+        try {
+            List<Object> annotations = new ArrayList<>();
+            annotations.add(jfr.annotation("jdk.jfr.Name", NAME_PREFIX + name));
+            annotations.add(jfr.annotation("jdk.jfr.Label", label));
+            annotations.add(jfr.annotation("jdk.jfr.Category", new String[] { CATEGORY }));
+            List<Object> descriptors = new ArrayList<>();
+            for (String field : fields) {
+                descriptors.add(jfr.valueDescriptor.newInstance(String.class, field));
+            }
+            Object factory = jfr.create.invoke(null, annotations, descriptors);
+            Object eventType = jfr.getEventType.invoke(factory);
+            return new JfrEventType(
+                jfr.isEnabled.bindTo(eventType),
+                jfr.newEvent.bindTo(factory).asType(MethodType.methodType(Object.class))
+            );
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return new JfrEventType(null, null);
+        }
+    }
+
+    /*
+     * An event that has begun while a recording included its type.
+     */
+    private static final class Recorded implements JfrEvent {
+
+        private final Object event;
+
+        private Recorded(Object event) {
+            this.event = event;
+        }
+
+        @Override
+        public void commit(Object value) {
+            commit(value, null, 1);
+        }
+
+        @Override
+        public void commit(Object value1, Object value2) {
+            commit(value1, value2, 2);
+        }
+
+        private void commit(Object value1, Object value2, int count) {
+            Handles jfr = Handles.INSTANCE;
+            try {
+                jfr.end.invokeExact(event);
+                if (!(boolean) jfr.shouldCommit.invokeExact(event)) {
+                    return;
+                }
+                jfr.set.invokeExact(event, 0, (Object) asString(value1));
+                if (count > 1) {
+                    jfr.set.invokeExact(event, 1, (Object) asString(value2));
+                }
+                jfr.commit.invokeExact(event);
+            } catch (Error e) {
+                throw e;
+            } catch (Throwable ignored) {
+                // Recording is best effort.
+            }
+        }
+    }
+
+    /*
+     * The parts of the jdk.jfr API that are used. INSTANCE is null if it isn't available.
+     *
+     * The methods that are called for every event are method handles, with jdk.jfr's types erased
+     * to Object, so they can be called with invokeExact.
+     */
+    private static final class Handles {
+
+        private static final Handles INSTANCE = create();
+
+        private final Method create;
+        private final Method getEventType;
+        private final MethodHandle newEvent;
+        private final MethodHandle isEnabled;
+        private final MethodHandle begin;
+        private final MethodHandle end;
+        private final MethodHandle shouldCommit;
+        private final MethodHandle set;
+        private final MethodHandle commit;
+        private final Constructor<?> annotationElement;
+        private final Constructor<?> valueDescriptor;
+
+        private Handles() throws ReflectiveOperationException {
+            Class<?> eventFactoryClass = Class.forName("jdk.jfr.EventFactory");
+            Class<?> eventClass = Class.forName("jdk.jfr.Event");
+            create = eventFactoryClass.getMethod("create", List.class, List.class);
+            getEventType = eventFactoryClass.getMethod("getEventType");
+            newEvent = handle(eventFactoryClass, "newEvent", Object.class);
+            isEnabled = handle(Class.forName("jdk.jfr.EventType"), "isEnabled", boolean.class);
+            begin = handle(eventClass, "begin", void.class);
+            end = handle(eventClass, "end", void.class);
+            shouldCommit = handle(eventClass, "shouldCommit", boolean.class);
+            set =
+                MethodHandles
+                    .publicLookup()
+                    .unreflect(eventClass.getMethod("set", int.class, Object.class))
+                    .asType(
+                        MethodType.methodType(void.class, Object.class, int.class, Object.class)
+                    );
+            commit = handle(eventClass, "commit", void.class);
+            annotationElement =
+                Class
+                    .forName("jdk.jfr.AnnotationElement")
+                    .getConstructor(Class.class, Object.class);
+            valueDescriptor =
+                Class.forName("jdk.jfr.ValueDescriptor").getConstructor(Class.class, String.class);
+        }
+
+        private static Handles create() {
+            try {
+                return new Handles();
+            } catch (ReflectiveOperationException | RuntimeException | LinkageError e) {
+                return null;
+            }
+        }
+
+        private static MethodHandle handle(Class<?> type, String name, Class<?> returnType)
+            throws ReflectiveOperationException {
+            return MethodHandles
+                .publicLookup()
+                .unreflect(type.getMethod(name))
+                .asType(MethodType.methodType(returnType, Object.class));
+        }
+
+        private Object annotation(String annotationType, Object value)
+            throws ReflectiveOperationException {
+            Class<?> type = Class.forName(annotationType);
+            return annotationElement.newInstance(type.asSubclass(Annotation.class), value);
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package nl.jqno.equalsverifier.internal.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.ObjLongConsumer;
+import java.util.function.Supplier;
+import nl.jqno.equalsverifier.VerificationListener;
+import nl.jqno.equalsverifier.VerificationListener.Phase;
+import nl.jqno.equalsverifier.internal.checkers.Checker;
+
+/**
+ * Runs the parts of a verification, and tells the {@link VerificationListener}s about them. Also
+ * records a {@link JfrEventType#CHECKER} event for each checker.
+ *
+ * <p>Every listener whose start callback returned normally, also gets the matching finish callback,
+ * even if another listener throws. If a start callback throws, the part of the verification itself
+ * doesn't run. An exception that a listener throws never replaces the problem that the
+ * verification found: it's added to that problem as a suppressed exception, and it's only thrown
+ * by itself if the verification didn't find a problem.
+ */
+public final class ListenerNotifier {
+
+    private final Class<?> type;
+    private final List<VerificationListener> listeners;
+
+    /**
+     * Constructor.
+     *
+     * @param type The class under test.
+     * @param listeners The listeners to notify.
+     */
+    public ListenerNotifier(Class<?> type, List<VerificationListener> listeners) {
+        this.type = type;
+        this.listeners = new ArrayList<>(listeners);
+    }
+
+    /**
+     * Runs a phase of the verification.
+     *
+     * @param <R> The result of the phase.
+     * @param phase The phase to run.
+     * @param action The work of the phase.
+     * @return The result of {@code action}.
+     */
+    public <R> R phase(Phase phase, Supplier<R> action) {
+        if (listeners.isEmpty()) {
+            return action.get();
+        }
+        return notifyAround(
+            listener -> listener.phaseStarted(type, phase),
+            (listener, nanos) -> listener.phaseFinished(type, phase, nanos),
+            action
+        );
+    }
+
+    /**
+     * Runs a phase of the verification that has no result.
+     *
+     * @param phase The phase to run.
+     * @param action The work of the phase.
+     */
+    public void phase(Phase phase, Runnable action) {
+        phase(
+            phase,
+            () -> {
+                action.run();
+                return null;
+            }
+        );
+    }
+
+    /**
+     * Runs the given checkers, one after another.
+     *
+     * @param checkers The checkers to run.
+     */
+    public void check(Checker... checkers) {
+        for (Checker checker : checkers) {
+            JfrEvent event = JfrEventType.CHECKER.begin();
+            try {
+                if (listeners.isEmpty()) {
+                    checker.check();
+                } else {
+                    check(checker);
+                }
+            } finally {
+                event.commit(type, checker.getClass());
+            }
+        }
+    }
+
+    private void check(Checker checker) {
+        String name = checker.getClass().getSimpleName();
+        notifyAround(
+            listener -> listener.checkerStarted(type, name),
+            (listener, nanos) -> listener.checkerFinished(type, name, nanos),
+            () -> {
+                checker.check();
+                return null;
+            }
+        );
+    }
+
+    private <R> R notifyAround(
+        Consumer<VerificationListener> started,
+        ObjLongConsumer<VerificationListener> finished,
+        Supplier<R> action
+    ) {
+        List<VerificationListener> startedListeners = new ArrayList<>(listeners.size());
+        Throwable failure = null;
+        for (VerificationListener listener : listeners) {
+            try {
+                started.accept(listener);
+                startedListeners.add(listener);
+            } catch (RuntimeException | Error e) {
+                failure = addTo(failure, e);
+            }
+        }
+
+        R result = null;
+        long start = System.nanoTime();
+        if (failure == null) {
+            try {
+                result = action.get();
+            } catch (RuntimeException | Error e) {
+                failure = e;
+            }
+        }
+        long nanos = System.nanoTime() - start;
+
+        for (VerificationListener listener : startedListeners) {
+            try {
+                finished.accept(listener, nanos);
+            } catch (RuntimeException | Error e) {
+                failure = addTo(failure, e);
+            }
+        }
+
+        if (failure instanceof Error) {
+            throw (Error) failure;
+        }
+        if (failure != null) {
+            throw (RuntimeException) failure;
+        }
+        return result;
+    }
+
+    private static Throwable addTo(Throwable failure, Throwable e) {
+        if (failure == null) {
+            return e;
+        }
+        if (failure != e) {
+            failure.addSuppressed(e);
+        }
+        return failure;
+    }
+}
@@ -0,0 +1,148 @@
+package nl.jqno.equalsverifier.internal.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import nl.jqno.equalsverifier.internal.exceptions.EqualsVerifierInternalBugException;
+
+/**
+ * Applies a function to each element of a list on a pool of worker threads, and returns the
+ * results in the order of the original list, regardless of the order in which they complete.
+ *
+ * <p>The threads are provided by a {@link Scheduler}: platform threads by default, or virtual
+ * threads on JVMs that support them. No more than {@code parallelism} tasks are submitted to it,
+ * each of which processes elements until there are none left.
+ */
+public final class ParallelMapper {
+
+    /** Do not instantiate. */
+    private ParallelMapper() {}
+
+    /**
+     * Applies {@code f} to each element of {@code items}, using at most {@code parallelism}
+     * platform threads.
+     *
+     * @param <T> The type of the input elements.
+     * @param <R> The type of the results.
+     * @param items The elements to apply {@code f} to.
+     * @param f The function to apply.
+     * @param parallelism The maximum number of threads to use.
+     * @return The results, in the same order as {@code items}.
+     */
+    public static <T, R> List<R> map(List<T> items, Function<T, R> f, int parallelism) {
+        return map(items, f, parallelism, Scheduler.platformThreads());
+    }
+
+    /**
+     * Applies {@code f} to each element of {@code items}, on threads that are created by the
+     * given {@link Scheduler}. At most {@code parallelism} elements are processed at the same
+     * time, even if the scheduler could run more.
+     *
+     * @param <T> The type of the input elements.
+     * @param <R> The type of the results.
+     * @param items The elements to apply {@code f} to.
+     * @param f The function to apply.
+     * @param parallelism The maximum number of elements to process at the same time.
+     * @param scheduler Creates the threads.
+     * @return The results, in the same order as {@code items}.
+     */
+    public static <T, R> List<R> map(
+        List<T> items,
+        Function<T, R> f,
+        int parallelism,
+        Scheduler scheduler
+    ) {
+        int threads = Math.min(parallelism, items.size());
+        if (threads <= 1) {
+            List<R> result = new ArrayList<>(items.size());
+            items.forEach(i -> result.add(f.apply(i)));
+            return result;
+        }
+
+        Function<T, R> g = StatisticsCollector.propagate(f);
+        Work<T, R> work = new Work<>(items, g);
+        List<Future<?>> workers = new ArrayList<>(threads);
+        try {
+            for (int i = 0; i < threads; i++) {
+                workers.add(scheduler.executor().submit(work::run));
+            }
+            workers.forEach(ParallelMapper::await);
+        } finally {
+            work.stop = true;
+        }
+        return work.results();
+    }
+
+    private static void await(Future<?> future) {
+        try {
+            future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for verification.", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new EqualsVerifierInternalBugException(cause);
+        }
+    }
+
+    /*
+     * The elements are handed out to the workers in order, so when an element fails, all earlier
+     * elements have already been started. They are allowed to finish, so that the failure that is
+     * reported, is the one for the earliest element; later elements are not started anymore.
+     */
+    private static final class Work<T, R> {
+
+        private final List<T> items;
+        private final Function<T, R> f;
+        private final Object[] results;
+        private final Throwable[] failures;
+        private final AtomicInteger next = new AtomicInteger();
+        private volatile boolean stop = false;
+
+        private Work(List<T> items, Function<T, R> f) {
+            this.items = items;
+            this.f = f;
+            this.results = new Object[items.size()];
+            this.failures = new Throwable[items.size()];
+        }
+
+        private void run() {
+            int i;
+            while (!stop && (i = next.getAndIncrement()) < items.size()) {
+                try {
+                    results[i] = f.apply(items.get(i));
+                } catch (RuntimeException | Error e) {
+                    failures[i] = e;
+                    stop = true;
+                }
+            }
+        }
+
+        private List<R> results() {
+            for (Throwable failure : failures) {
+                if (failure instanceof RuntimeException) {
+                    throw (RuntimeException) failure;
+                }
+                if (failure instanceof Error) {
+                    throw (Error) failure;
+                }
+            }
+            List<R> result = new ArrayList<>(results.length);
+            for (Object r : results) {
+                @SuppressWarnings("unchecked")
+                R cast = (R) r;
+                result.add(cast);
+            }
+            return result;
+        }
+    }
+}
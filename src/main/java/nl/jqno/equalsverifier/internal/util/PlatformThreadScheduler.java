@@ -0,0 +1,31 @@
+package nl.jqno.equalsverifier.internal.util;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs work on a shared pool of daemon platform threads. Threads are started when they're needed,
+ * and stop when they've been idle for a minute.
+ */
+/* package private */final class PlatformThreadScheduler implements Scheduler {
+
+    /* package private */static final PlatformThreadScheduler INSTANCE =
+        new PlatformThreadScheduler();
+
+    private static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
+
+    private final ExecutorService executor = Executors.newCachedThreadPool(r -> {
+        Thread t = new Thread(r, "EqualsVerifier-worker-" + THREAD_COUNTER.incrementAndGet());
+        t.setDaemon(true);
+        return t;
+    });
+
+    private PlatformThreadScheduler() {}
+
+    /** {@inheritDoc} */
+    @Override
+    public ExecutorService executor() {
+        return executor;
+    }
+}
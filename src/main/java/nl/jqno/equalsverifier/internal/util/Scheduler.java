@@ -0,0 +1,47 @@
+package nl.jqno.equalsverifier.internal.util;
+
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Provides the threads on which {@link ParallelMapper} runs its work.
+ *
+ * <p>By default, work runs on a pool of platform threads. On Java 21 and up, it can run on virtual
+ * threads instead, which is useful when verifications block, for instance because {@code equals}
+ * triggers a lazy-loading proxy or a class initializer that does I/O.
+ */
+public interface Scheduler {
+    /**
+     * Returns the executor that runs the work. It's shared by all verifications, so that threads
+     * don't have to be started for each of them, and callers must not shut it down. It doesn't
+     * limit the number of tasks that run at the same time; callers should submit no more tasks
+     * than they want to run at once.
+     *
+     * @return An executor.
+     */
+    ExecutorService executor();
+
+    /**
+     * @return A scheduler that runs work on a shared pool of daemon platform threads.
+     */
+    static Scheduler platformThreads() {
+        return PlatformThreadScheduler.INSTANCE;
+    }
+
+    /**
+     * @return A scheduler that starts a virtual thread for each task, or {@link
+     *     #platformThreads()} if virtual threads are not available on the current JVM.
+     */
+    static Scheduler virtualThreads() {
+        Scheduler result = VirtualThreadScheduler.INSTANCE;
+        return result == null ? platformThreads() : result;
+    }
+
+    /**
+     * @param virtualThreads Whether to use virtual threads, if available.
+     * @return {@link #virtualThreads()} if {@code virtualThreads} is true; {@link
+     *     #platformThreads()} otherwise.
+     */
+    static Scheduler of(boolean virtualThreads) {
+        return virtualThreads ? virtualThreads() : platformThreads();
+    }
+}
@@ -0,0 +1,152 @@
+package nl.jqno.equalsverifier.internal.util;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import nl.jqno.equalsverifier.VerificationStatistics;
+
+/**
+ * Counts what a verification does, for its {@link VerificationStatistics}.
+ *
+ * <p>The collector of the running verification is kept in a ThreadLocal, so the code that does the
+ * counting doesn't need a reference to it. {@link ParallelMapper} carries it over to its worker
+ * threads. Outside of a verification that collects statistics, nothing is counted.
+ */
+public final class StatisticsCollector {
+
+    private static final ThreadLocal<StatisticsCollector> CURRENT = new ThreadLocal<>();
+
+    private final Class<?> type;
+    private final StatisticsCollector previous;
+    private final long startNanos = System.nanoTime();
+    private final LongAdder objectsInstantiated = new LongAdder();
+    private final LongAdder equalsInvocations = new LongAdder();
+    private final LongAdder hashCodeInvocations = new LongAdder();
+    private final LongAdder dynamicSubclassesGenerated = new LongAdder();
+    private final LongAdder prefabTuplesCreated = new LongAdder();
+
+    private StatisticsCollector(Class<?> type, StatisticsCollector previous) {
+        this.type = type;
+        this.previous = previous;
+    }
+
+    /**
+     * Starts collecting statistics on the current thread. Must be followed by a call to {@link
+     * #finish()} on the same thread.
+     *
+     * @param type The class under test. Only calls to {@code equals} and {@code hashCode} on its
+     *     instances are counted.
+     * @return The new collector.
+     */
+    public static StatisticsCollector start(Class<?> type) {
+        StatisticsCollector result = new StatisticsCollector(type, CURRENT.get());
+        CURRENT.set(result);
+        return result;
+    }
+
+    /**
+     * Stops collecting statistics on the current thread.
+     *
+     * @return The statistics that were collected since {@link #start(Class)}.
+     */
+    public VerificationStatistics finish() {
+        long wallTimeNanos = System.nanoTime() - startNanos;
+        restore(previous);
+        return VerificationStatistics
+            .builder()
+            .withWallTimeNanos(wallTimeNanos)
+            .withObjectsInstantiated(objectsInstantiated.sum())
+            .withEqualsInvocations(equalsInvocations.sum())
+            .withHashCodeInvocations(hashCodeInvocations.sum())
+            .withDynamicSubclassesGenerated(dynamicSubclassesGenerated.sum())
+            .withPrefabTuplesCreated(prefabTuplesCreated.sum())
+            .build();
+    }
+
+    /**
+     * Makes a function count towards the collector of the current thread, even when it's applied
+     * on another thread.
+     *
+     * @param <T> The type of the input of the function.
+     * @param <R> The type of the result of the function.
+     * @param f The function.
+     * @return A function that applies {@code f} while the current collector is active.
+     */
+    public static <T, R> Function<T, R> propagate(Function<T, R> f) {
+        StatisticsCollector collector = CURRENT.get();
+        if (collector == null) {
+            return f;
+        }
+        return t -> {
+            StatisticsCollector outer = CURRENT.get();
+            CURRENT.set(collector);
+            try {
+                return f.apply(t);
+            } finally {
+                restore(outer);
+            }
+        };
+    }
+
+    /**
+     * Calls {@code equals}, and counts the invocation if {@code left} is an instance of the class
+     * under test.
+     *
+     * @param left The object to call {@code equals} on.
+     * @param right The argument to {@code equals}.
+     * @return The result of {@code equals}.
+     */
+    public static boolean invokeEquals(Object left, Object right) {
+        StatisticsCollector collector = CURRENT.get();
+        if (collector != null && collector.type.isInstance(left)) {
+            collector.equalsInvocations.increment();
+        }
+        return left.equals(right);
+    }
+
+    /**
+     * Calls {@code hashCode}, and counts the invocation if {@code object} is an instance of the
+     * class under test.
+     *
+     * @param object The object to call {@code hashCode} on.
+     * @return The result of {@code hashCode}.
+     */
+    public static int invokeHashCode(Object object) {
+        StatisticsCollector collector = CURRENT.get();
+        if (collector != null && collector.type.isInstance(object)) {
+            collector.hashCodeInvocations.increment();
+        }
+        return object.hashCode();
+    }
+
+    /** Counts an instantiated object. */
+    public static void countObjectInstantiated() {
+        StatisticsCollector collector = CURRENT.get();
+        if (collector != null) {
+            collector.objectsInstantiated.increment();
+        }
+    }
+
+    /** Counts a generated dynamic subclass. */
+    public static void countDynamicSubclassGenerated() {
+        StatisticsCollector collector = CURRENT.get();
+        if (collector != null) {
+            collector.dynamicSubclassesGenerated.increment();
+        }
+    }
+
+    /** Counts a created prefab tuple. */
+    public static void countPrefabTupleCreated() {
+        StatisticsCollector collector = CURRENT.get();
+        if (collector != null) {
+            collector.prefabTuplesCreated.increment();
+        }
+    }
+
+    private static void restore(StatisticsCollector collector) {
+        if (collector == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(collector);
+        }
+    }
+}
@@ -221,6 +221,10 @@ public final class Validations {
         validate(!unknownTypes.isEmpty(), message);
     }
 
+    public static void validateParallelism(int parallelism) {
+        validate(parallelism < 1, "parallelism must be at least 1, but was " + parallelism + ".");
+    }
+
     public static void validateNotNull(Object object, String errormessage) {
         if (object == null) {
             throw new NullPointerException("Precondition: " + errormessage);
@@ -0,0 +1,48 @@
+package nl.jqno.equalsverifier.internal.util;
+
+import static nl.jqno.equalsverifier.internal.util.Rethrow.rethrow;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Starts a virtual thread for each task.
+ *
+ * <p>EqualsVerifier is compiled for Java 8, so {@code Executors.newVirtualThreadPerTaskExecutor()}
+ * is looked up reflectively. On JVMs where it doesn't exist, or where it's still a preview feature
+ * that isn't enabled, {@link #INSTANCE} is null.
+ */
+/* package private */final class VirtualThreadScheduler implements Scheduler {
+
+    /* package private */static final VirtualThreadScheduler INSTANCE = create();
+
+    private final ExecutorService executor;
+
+    private VirtualThreadScheduler(ExecutorService executor) {
+        this.executor = executor;
+    }
+
+    private static VirtualThreadScheduler create() {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            ExecutorService executor = rethrow(
+                () -> (ExecutorService) factory.invoke(null),
+                "Could not start virtual threads."
+            );
+            return new VirtualThreadScheduler(executor);
+        } catch (NoSuchMethodException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The executor starts a new virtual thread for each task.
+     */
+    @Override
+    public ExecutorService executor() {
+        return executor;
+    }
+}
@@ -40,6 +40,32 @@ public class AnnotationNonnullTest {
             );
     }
 
+    @Test
+    public void fail_whenEqualsDoesntCheckForNull_givenFieldsHaveNonnullAnnotationButOneDoesnt_givenReflectiveAnnotationScanning() {
+        ExpectedException
+            .when(() ->
+                EqualsVerifier
+                    .forClass(NonnullManualMissedOne.class)
+                    .withReflectiveAnnotationScanning()
+                    .verify()
+            )
+            .assertFailure()
+            .assertCause(NullPointerException.class)
+            .assertMessageContains(
+                "Non-nullity",
+                "equals throws NullPointerException",
+                "on field noAnnotation"
+            );
+    }
+
+    @Test
+    public void succeed_whenEqualsDoesntCheckForNull_givenJsr305DefaultAnnotationOnPackage_givenReflectiveAnnotationScanning() {
+        EqualsVerifier
+            .forClass(NonnullJsr305JavaxOnPackage.class)
+            .withReflectiveAnnotationScanning()
+            .verify();
+    }
+
     @Test
     public void succeed_whenEqualsDoesntCheckForNull_givenFieldsHaveNonnullAnnotationInSuperclass() {
         EqualsVerifier.forClass(SubclassNonnullManual.class).verify();
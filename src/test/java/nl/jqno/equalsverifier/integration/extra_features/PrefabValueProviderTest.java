@@ -0,0 +1,160 @@
+package nl.jqno.equalsverifier.integration.extra_features;
+
+import java.util.Objects;
+import nl.jqno.equalsverifier.EqualsVerifier;
+import nl.jqno.equalsverifier.PrefabValueProvider;
+import nl.jqno.equalsverifier.testhelpers.ExpectedException;
+import org.junit.jupiter.api.Test;
+
+/*
+ * CoinProvider and NoteProvider are registered in src/test/resources/META-INF/services.
+ */
+public class PrefabValueProviderTest {
+
+    @Test
+    public void succeed_whenFieldIsRecursive_givenProviderForFieldType() {
+        EqualsVerifier.forClass(Wallet.class).verify();
+    }
+
+    @Test
+    public void fail_whenProvidedValuesAreInvalid() {
+        ExpectedException
+            .when(() -> EqualsVerifier.forClass(Purse.class).verify())
+            .assertFailure()
+            .assertMessageContains("Symmetry");
+    }
+
+    @Test
+    public void succeed_whenPrefabValuesOverrideProvidedValues() {
+        EqualsVerifier
+            .forClass(Purse.class)
+            .withPrefabValues(Note.class, new Note(1), new Note(2))
+            .verify();
+    }
+
+    public static final class CoinProvider implements PrefabValueProvider {
+
+        @Override
+        public void addPrefabValues(Registry registry) {
+            Coin red = new Coin(1, null);
+            registry.withPrefabValues(Coin.class, red, new Coin(2, red));
+        }
+    }
+
+    /*
+     * Gives a blue value that considers itself equal to the red value, even though the red value
+     * doesn't consider itself equal to the blue value.
+     */
+    public static final class NoteProvider implements PrefabValueProvider {
+
+        @Override
+        public void addPrefabValues(Registry registry) {
+            registry.withPrefabValues(Note.class, new Note(1), new LenientNote(2));
+        }
+    }
+
+    public static final class Coin {
+
+        private final int value;
+        private final Coin change;
+
+        public Coin(int value, Coin change) {
+            this.value = value;
+            this.change = change;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof Coin)) {
+                return false;
+            }
+            Coin other = (Coin) obj;
+            return value == other.value && Objects.equals(change, other.change);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(value, change);
+        }
+    }
+
+    static final class Wallet {
+
+        private final Coin coin;
+
+        Wallet(Coin coin) {
+            this.coin = coin;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof Wallet)) {
+                return false;
+            }
+            return Objects.equals(coin, ((Wallet) obj).coin);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(coin);
+        }
+    }
+
+    public static class Note {
+
+        private final int value;
+
+        public Note(int value) {
+            this.value = value;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof Note && value == ((Note) obj).value;
+        }
+
+        @Override
+        public int hashCode() {
+            return value;
+        }
+    }
+
+    static final class LenientNote extends Note {
+
+        LenientNote(int value) {
+            super(value);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof Note;
+        }
+
+        @Override
+        public int hashCode() {
+            return 0;
+        }
+    }
+
+    static final class Purse {
+
+        private final Note note;
+
+        Purse(Note note) {
+            this.note = note;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof Purse)) {
+                return false;
+            }
+            return Objects.equals(note, ((Purse) obj).note);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(note);
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package nl.jqno.equalsverifier.integration.operational;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.util.List;
+import java.util.Objects;
+import nl.jqno.equalsverifier.EqualsVerifier;
+import nl.jqno.equalsverifier.EqualsVerifierReport;
+import nl.jqno.equalsverifier.testhelpers.ExpectedException;
+import org.junit.jupiter.api.Test;
+
+public class FieldParallelismTest {
+
+    @Test
+    public void succeed_whenClassIsCorrect_givenFieldParallelism() {
+        EqualsVerifier.forClass(Wide.class).withFieldParallelism(4).verify();
+    }
+
+    @Test
+    public void reportTheSameProblem_whenSeveralFieldsAreIncorrect_givenFieldParallelism() {
+        EqualsVerifierReport sequential = EqualsVerifier
+            .forClass(WideWithTwoProblems.class)
+            .report();
+        EqualsVerifierReport parallel = EqualsVerifier
+            .forClass(WideWithTwoProblems.class)
+            .withFieldParallelism(4)
+            .report();
+
+        assertFalse(parallel.isSuccessful());
+        assertEquals(sequential.getMessage(), parallel.getMessage());
+    }
+
+    @Test
+    public void fail_whenClassIsIncorrect_givenFieldParallelism() {
+        ExpectedException
+            .when(() ->
+                EqualsVerifier.forClass(WideWithTwoProblems.class).withFieldParallelism(4).verify()
+            )
+            .assertFailure()
+            .assertMessageContains("Float: equals doesn't use Float.compare for field", "g");
+    }
+
+    @Test
+    public void fail_whenFieldParallelismIsZero() {
+        ExpectedException
+            .when(() -> EqualsVerifier.forClass(Wide.class).withFieldParallelism(0))
+            .assertThrows(IllegalStateException.class)
+            .assertMessageContains("parallelism must be at least 1");
+    }
+
+    static final class Wide {
+
+        private final int a;
+        private final String b;
+        private final long c;
+        private final List<String> d;
+        private final boolean e;
+        private final Object f;
+        private final float g;
+        private final char h;
+
+        Wide(int a, String b, long c, List<String> d, boolean e, Object f, float g, char h) {
+            this.a = a;
+            this.b = b;
+            this.c = c;
+            this.d = d;
+            this.e = e;
+            this.f = f;
+            this.g = g;
+            this.h = h;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof Wide)) {
+                return false;
+            }
+            Wide other = (Wide) obj;
+            return (
+                a == other.a &&
+                Objects.equals(b, other.b) &&
+                c == other.c &&
+                Objects.equals(d, other.d) &&
+                e == other.e &&
+                Objects.equals(f, other.f) &&
+                Float.compare(g, other.g) == 0 &&
+                h == other.h
+            );
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(a, b, c, d, e, f, g, h);
+        }
+    }
+
+    static final class WideWithTwoProblems {
+
+        private final int a;
+        private final String b;
+        private final long c;
+        private final List<String> d;
+        private final boolean e;
+        private final Object f;
+        private final float g;
+        private final char h;
+
+        WideWithTwoProblems(
+            int a,
+            String b,
+            long c,
+            List<String> d,
+            boolean e,
+            Object f,
+            float g,
+            char h
+        ) {
+            this.a = a;
+            this.b = b;
+            this.c = c;
+            this.d = d;
+            this.e = e;
+            this.f = f;
+            this.g = g;
+            this.h = h;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof WideWithTwoProblems)) {
+                return false;
+            }
+            WideWithTwoProblems other = (WideWithTwoProblems) obj;
+            return (
+                a == other.a &&
+                Objects.equals(b, other.b) &&
+                Objects.equals(d, other.d) &&
+                e == other.e &&
+                Objects.equals(f, other.f) &&
+                g == other.g &&
+                h == other.h
+            );
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(a, b, c, d, e, f, g, h);
+        }
+    }
+}
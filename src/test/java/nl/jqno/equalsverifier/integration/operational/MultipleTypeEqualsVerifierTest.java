@@ -251,6 +251,82 @@ public class MultipleTypeEqualsVerifierTest {
         );
     }
 
+    @Test
+    public void succeed_whenVerifyingACorrectPackageRecursively_givenParallelism() {
+        EqualsVerifier.forPackage(CORRECT_PACKAGE, true).withParallelism(4).verify();
+    }
+
+    @Test
+    public void fail_whenVerifyingAPackageRecursivelyWithFourIncorrectClasses_givenParallelism() {
+        ExpectedException
+            .when(() ->
+                EqualsVerifier.forPackage(INCORRECT_PACKAGE, true).withParallelism(4).verify()
+            )
+            .assertFailure()
+            .assertMessageContains(
+                "EqualsVerifier found a problem in 4 classes.",
+                "* " + INCORRECT_M,
+                "* " + INCORRECT_N,
+                "* " + INCORRECT_O,
+                "* " + INCORRECT_P
+            );
+    }
+
+    @Test
+    public void fail_whenReportingOnTwoIncorrectClasses_givenParallelism() {
+        List<EqualsVerifierReport> reports = EqualsVerifier
+            .forClasses(A.class, IncorrectM.class, C.class, IncorrectN.class)
+            .withParallelism(3)
+            .report();
+
+        assertEquals(4, reports.size());
+        assertSuccessful(reports.get(0), A.class);
+        assertSuccessful(reports.get(2), C.class);
+        assertUnsuccessful(reports.get(1), IncorrectM.class, "Subclass: equals is not final.");
+        assertUnsuccessful(
+            reports.get(3),
+            IncorrectN.class,
+            "Reflexivity: object does not equal itself:"
+        );
+    }
+
+    @Test
+    public void succeed_whenVerifyingACorrectPackageRecursively_givenParallelismAndVirtualThreads() {
+        EqualsVerifier
+            .forPackage(CORRECT_PACKAGE, true)
+            .withParallelism(4)
+            .withVirtualThreads()
+            .verify();
+    }
+
+    @Test
+    public void fail_whenReportingOnTwoIncorrectClasses_givenConfiguredVirtualThreads() {
+        List<EqualsVerifierReport> reports = EqualsVerifier
+            .configure()
+            .withVirtualThreads()
+            .forClasses(A.class, IncorrectM.class, C.class, IncorrectN.class)
+            .withParallelism(3)
+            .report();
+
+        assertEquals(4, reports.size());
+        assertSuccessful(reports.get(0), A.class);
+        assertUnsuccessful(reports.get(1), IncorrectM.class, "Subclass: equals is not final.");
+        assertSuccessful(reports.get(2), C.class);
+        assertUnsuccessful(
+            reports.get(3),
+            IncorrectN.class,
+            "Reflexivity: object does not equal itself:"
+        );
+    }
+
+    @Test
+    public void fail_whenParallelismIsZero() {
+        ExpectedException
+            .when(() -> EqualsVerifier.forClasses(A.class, B.class).withParallelism(0))
+            .assertThrows(IllegalStateException.class)
+            .assertMessageContains("parallelism must be at least 1");
+    }
+
     private void assertSuccessful(EqualsVerifierReport report, Class<?> type) {
         assertTrue(report.isSuccessful());
         assertEquals(type, report.getType());
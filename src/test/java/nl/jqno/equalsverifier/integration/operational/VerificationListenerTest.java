@@ -0,0 +1,206 @@
+package nl.jqno.equalsverifier.integration.operational;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import nl.jqno.equalsverifier.EqualsVerifier;
+import nl.jqno.equalsverifier.EqualsVerifierReport;
+import nl.jqno.equalsverifier.VerificationListener;
+import nl.jqno.equalsverifier.Warning;
+import nl.jqno.equalsverifier.testhelpers.ExpectedException;
+import nl.jqno.equalsverifier.testhelpers.types.FinalPoint;
+import nl.jqno.equalsverifier.testhelpers.types.MutablePoint;
+import nl.jqno.equalsverifier.testhelpers.types.Point;
+import org.junit.jupiter.api.Test;
+
+public class VerificationListenerTest {
+
+    private final RecordingListener listener = new RecordingListener();
+
+    @Test
+    public void reportPhasesAndCheckersInOrder() {
+        EqualsVerifier.forClass(FinalPoint.class).withListener(listener).verify();
+
+        List<String> expected = Arrays.asList(
+            "start BUILD_CONFIG",
+            "end BUILD_CONFIG",
+            "start VALIDATE_PROCESSED_ANNOTATIONS",
+            "end VALIDATE_PROCESSED_ANNOTATIONS",
+            "start VERIFY_WITHOUT_EXAMPLES",
+            "start SignatureChecker",
+            "end SignatureChecker",
+            "start AbstractDelegationChecker",
+            "end AbstractDelegationChecker",
+            "start NullChecker",
+            "end NullChecker",
+            "start RecordChecker",
+            "end RecordChecker",
+            "start CachedHashCodeChecker",
+            "end CachedHashCodeChecker",
+            "end VERIFY_WITHOUT_EXAMPLES",
+            "start VERIFY_WITH_EXAMPLES",
+            "start ExamplesChecker",
+            "end ExamplesChecker",
+            "start HierarchyChecker",
+            "end HierarchyChecker",
+            "start FieldsChecker",
+            "end FieldsChecker",
+            "end VERIFY_WITH_EXAMPLES"
+        );
+        assertEquals(expected, listener.events);
+        assertEquals(Collections.singleton(FinalPoint.class), listener.types);
+        assertFalse(listener.negativeTiming);
+    }
+
+    @Test
+    public void finishPhaseAndChecker_whenCheckerFindsAProblem() {
+        EqualsVerifierReport report = EqualsVerifier
+            .forClass(MutablePoint.class)
+            .withListener(listener)
+            .report();
+
+        assertFalse(report.isSuccessful());
+        List<String> events = listener.events;
+        assertEquals(
+            Arrays.asList("end HierarchyChecker", "end VERIFY_WITH_EXAMPLES"),
+            events.subList(events.size() - 2, events.size())
+        );
+    }
+
+    @Test
+    public void notifyEveryListener() {
+        RecordingListener other = new RecordingListener();
+        EqualsVerifier
+            .forClass(FinalPoint.class)
+            .withListener(listener)
+            .withListener(other)
+            .verify();
+
+        assertEquals(listener.events, other.events);
+    }
+
+    @Test
+    public void notifyListener_whenItIsConfiguredForSeveralTypes() {
+        EqualsVerifier
+            .configure()
+            .withListener(listener)
+            .suppress(Warning.STRICT_INHERITANCE)
+            .forClasses(FinalPoint.class, Point.class)
+            .withParallelism(2)
+            .verify();
+
+        assertEquals(new HashSet<>(Arrays.asList(FinalPoint.class, Point.class)), listener.types);
+        assertTrue(listener.events.contains("end FieldsChecker"));
+    }
+
+    @Test
+    public void reportListenerException_whenVerificationFindsNoProblem() {
+        IllegalStateException thrown = new IllegalStateException("listener failure");
+        EqualsVerifierReport report = EqualsVerifier
+            .forClass(FinalPoint.class)
+            .withListener(
+                new VerificationListener() {
+                    @Override
+                    public void checkerFinished(Class<?> type, String checker, long nanos) {
+                        throw thrown;
+                    }
+                }
+            )
+            .report();
+
+        assertFalse(report.isSuccessful());
+        assertSame(thrown, report.getCause());
+    }
+
+    @Test
+    public void keepProblem_whenListenerAlsoThrows() {
+        IllegalStateException thrown = new IllegalStateException("listener failure");
+        EqualsVerifierReport report = EqualsVerifier
+            .forClass(MutablePoint.class)
+            .withListener(
+                new VerificationListener() {
+                    @Override
+                    public void phaseFinished(Class<?> type, Phase phase, long nanos) {
+                        if (phase == Phase.VERIFY_WITH_EXAMPLES) {
+                            throw thrown;
+                        }
+                    }
+                }
+            )
+            .report();
+
+        assertFalse(report.isSuccessful());
+        assertNotSame(thrown, report.getCause());
+        assertEquals(Arrays.asList(thrown), Arrays.asList(report.getCause().getSuppressed()));
+    }
+
+    @Test
+    public void finishOtherListeners_whenListenerThrowsWhenStarted() {
+        RecordingListener other = new RecordingListener();
+        EqualsVerifierReport report = EqualsVerifier
+            .forClass(FinalPoint.class)
+            .withListener(listener)
+            .withListener(
+                new VerificationListener() {
+                    @Override
+                    public void phaseStarted(Class<?> type, Phase phase) {
+                        throw new IllegalStateException("listener failure");
+                    }
+                }
+            )
+            .withListener(other)
+            .report();
+
+        assertFalse(report.isSuccessful());
+        List<String> expected = Arrays.asList("start BUILD_CONFIG", "end BUILD_CONFIG");
+        assertEquals(expected, listener.events);
+        assertEquals(expected, other.events);
+    }
+
+    @Test
+    public void fail_whenListenerIsNull() {
+        ExpectedException
+            .when(() -> EqualsVerifier.forClass(FinalPoint.class).withListener(null))
+            .assertThrows(NullPointerException.class)
+            .assertMessageContains("listener is null");
+    }
+
+    private static final class RecordingListener implements VerificationListener {
+
+        private final List<String> events = Collections.synchronizedList(new ArrayList<>());
+        private final Set<Class<?>> types = Collections.synchronizedSet(new HashSet<>());
+        private volatile boolean negativeTiming = false;
+
+        @Override
+        public void phaseStarted(Class<?> type, Phase phase) {
+            types.add(type);
+            events.add("start " + phase);
+        }
+
+        @Override
+        public void phaseFinished(Class<?> type, Phase phase, long nanos) {
+            negativeTiming |= nanos < 0;
+            events.add("end " + phase);
+        }
+
+        @Override
+        public void checkerStarted(Class<?> type, String checker) {
+            events.add("start " + checker);
+        }
+
+        @Override
+        public void checkerFinished(Class<?> type, String checker, long nanos) {
+            negativeTiming |= nanos < 0;
+            events.add("end " + checker);
+        }
+    }
+}
@@ -0,0 +1,220 @@
+package nl.jqno.equalsverifier.integration.operational;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import nl.jqno.equalsverifier.EqualsVerifier;
+import nl.jqno.equalsverifier.EqualsVerifierReport;
+import nl.jqno.equalsverifier.VerificationStatistics;
+import nl.jqno.equalsverifier.Warning;
+import nl.jqno.equalsverifier.testhelpers.types.FinalPoint;
+import nl.jqno.equalsverifier.testhelpers.types.Point;
+import nl.jqno.equalsverifier.testhelpers.types.PointContainer;
+import org.junit.jupiter.api.Test;
+
+public class VerificationStatisticsTest {
+
+    @Test
+    public void containStatistics_whenClassIsCorrect() {
+        VerificationStatistics statistics = EqualsVerifier
+            .forClass(PointContainer.class)
+            .suppress(Warning.STRICT_INHERITANCE)
+            .report()
+            .getStatistics();
+
+        assertTrue(statistics.getWallTimeNanos() > 0);
+        assertTrue(statistics.getObjectsInstantiated() > 0);
+        assertTrue(statistics.getEqualsInvocations() > 0);
+        assertTrue(statistics.getHashCodeInvocations() > 0);
+        assertTrue(statistics.getPrefabTuplesCreated() > 0);
+    }
+
+    @Test
+    public void containStatistics_whenClassIsIncorrect() {
+        EqualsVerifierReport report = EqualsVerifier.forClass(Point.class).report();
+
+        assertFalse(report.isSuccessful());
+        assertTrue(report.getStatistics().getWallTimeNanos() > 0);
+        assertTrue(report.getStatistics().getEqualsInvocations() > 0);
+    }
+
+    @Test
+    public void countDynamicSubclass_whenClassIsAbstract() {
+        VerificationStatistics statistics = EqualsVerifier
+            .forClass(AbstractValue.class)
+            .report()
+            .getStatistics();
+
+        assertTrue(statistics.getDynamicSubclassesGenerated() > 0);
+    }
+
+    @Test
+    public void countTheSame_givenFieldParallelism() {
+        VerificationStatistics sequential = EqualsVerifier
+            .forClass(Wide.class)
+            .report()
+            .getStatistics();
+        VerificationStatistics parallel = EqualsVerifier
+            .forClass(Wide.class)
+            .withFieldParallelism(4)
+            .report()
+            .getStatistics();
+
+        assertEquals(sequential.getEqualsInvocations(), parallel.getEqualsInvocations());
+        assertEquals(sequential.getHashCodeInvocations(), parallel.getHashCodeInvocations());
+    }
+
+    @Test
+    public void containStatisticsForEachType_whenSeveralTypesAreReported() {
+        List<EqualsVerifierReport> reports = EqualsVerifier
+            .forClasses(FinalPoint.class, Wide.class)
+            .withParallelism(2)
+            .report();
+
+        for (EqualsVerifierReport report : reports) {
+            assertTrue(report.getStatistics().getEqualsInvocations() > 0);
+        }
+    }
+
+    @Test
+    public void beEmpty_whenReportIsCreatedWithoutStatistics() {
+        assertSame(
+            VerificationStatistics.EMPTY,
+            EqualsVerifierReport.success(FinalPoint.class).getStatistics()
+        );
+    }
+
+    @Test
+    public void countOnlyEqualsInvocationsOnTheClassUnderTest_whenSuperclassHasEquals() {
+        CountingSuper.SUB_INVOCATIONS.set(0);
+        EqualsVerifierReport report = EqualsVerifier.forClass(CountingSub.class).report();
+
+        assertTrue(report.isSuccessful(), report.getMessage());
+        assertEquals(
+            CountingSuper.SUB_INVOCATIONS.get(),
+            report.getStatistics().getEqualsInvocations()
+        );
+    }
+
+    @Test
+    public void containBuiltMeasurements() {
+        VerificationStatistics statistics = VerificationStatistics
+            .builder()
+            .withWallTimeNanos(1)
+            .withObjectsInstantiated(2)
+            .withEqualsInvocations(3)
+            .withHashCodeInvocations(4)
+            .withDynamicSubclassesGenerated(5)
+            .withPrefabTuplesCreated(6)
+            .build();
+
+        assertEquals(1, statistics.getWallTimeNanos());
+        assertEquals(2, statistics.getObjectsInstantiated());
+        assertEquals(3, statistics.getEqualsInvocations());
+        assertEquals(4, statistics.getHashCodeInvocations());
+        assertEquals(5, statistics.getDynamicSubclassesGenerated());
+        assertEquals(6, statistics.getPrefabTuplesCreated());
+        assertEquals(0, VerificationStatistics.EMPTY.getEqualsInvocations());
+    }
+
+    static class CountingSuper {
+
+        static final AtomicLong SUB_INVOCATIONS = new AtomicLong();
+
+        private final int i;
+
+        CountingSuper(int i) {
+            this.i = i;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (getClass() == CountingSub.class) {
+                SUB_INVOCATIONS.incrementAndGet();
+            }
+            if (!(obj instanceof CountingSuper)) {
+                return false;
+            }
+            return i == ((CountingSuper) obj).i;
+        }
+
+        @Override
+        public int hashCode() {
+            return i;
+        }
+    }
+
+    static final class CountingSub extends CountingSuper {
+
+        CountingSub(int i) {
+            super(i);
+        }
+    }
+
+    abstract static class AbstractValue {
+
+        private final int i;
+
+        AbstractValue(int i) {
+            this.i = i;
+        }
+
+        @Override
+        public final boolean equals(Object obj) {
+            if (!(obj instanceof AbstractValue)) {
+                return false;
+            }
+            return i == ((AbstractValue) obj).i;
+        }
+
+        @Override
+        public final int hashCode() {
+            return i;
+        }
+    }
+
+    static final class Wide {
+
+        private final int a;
+        private final String b;
+        private final long c;
+        private final List<String> d;
+        private final boolean e;
+        private final Object f;
+
+        Wide(int a, String b, long c, List<String> d, boolean e, Object f) {
+            this.a = a;
+            this.b = b;
+            this.c = c;
+            this.d = d;
+            this.e = e;
+            this.f = f;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof Wide)) {
+                return false;
+            }
+            Wide other = (Wide) obj;
+            return (
+                a == other.a &&
+                Objects.equals(b, other.b) &&
+                c == other.c &&
+                Objects.equals(d, other.d) &&
+                e == other.e &&
+                Objects.equals(f, other.f)
+            );
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(a, b, c, d, e, f);
+        }
+    }
+}
@@ -1,8 +1,11 @@
 package nl.jqno.equalsverifier.integration.operational;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import nl.jqno.equalsverifier.EqualsVerifier;
+import nl.jqno.equalsverifier.internal.prefabvalues.SharedCache;
 import nl.jqno.equalsverifier.internal.util.ObjenesisWrapper;
 import nl.jqno.equalsverifier.testhelpers.packages.correct.A;
 import nl.jqno.equalsverifier.testhelpers.packages.correct.B;
@@ -34,4 +37,13 @@ public class WithResetCachesTest {
         Objenesis reset = ObjenesisWrapper.getObjenesis();
         assertNotEquals(original, reset);
     }
+
+    @Test
+    public void sharedPrefabValueCache() {
+        EqualsVerifier.forClasses(A.class, B.class).withSharedPrefabValueCache().verify();
+        assertTrue(SharedCache.getInstance().size() > 0);
+
+        EqualsVerifier.forClass(A.class).withResetCaches();
+        assertEquals(0, SharedCache.getInstance().size());
+    }
 }
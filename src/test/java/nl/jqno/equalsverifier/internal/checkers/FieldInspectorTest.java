@@ -3,15 +3,21 @@ package nl.jqno.equalsverifier.internal.checkers;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import java.lang.reflect.Field;
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Set;
+import nl.jqno.equalsverifier.internal.checkers.FieldInspector.Step;
 import nl.jqno.equalsverifier.internal.checkers.fieldchecks.FieldCheck;
+import nl.jqno.equalsverifier.internal.exceptions.AssertionException;
 import nl.jqno.equalsverifier.internal.prefabvalues.PrefabValues;
 import nl.jqno.equalsverifier.internal.prefabvalues.TypeTag;
 import nl.jqno.equalsverifier.internal.reflection.ClassAccessor;
 import nl.jqno.equalsverifier.internal.reflection.FieldAccessor;
 import nl.jqno.equalsverifier.internal.reflection.ObjectAccessor;
 import nl.jqno.equalsverifier.internal.reflection.annotations.AnnotationCache;
+import nl.jqno.equalsverifier.internal.util.Formatter;
+import nl.jqno.equalsverifier.internal.util.Scheduler;
+import nl.jqno.equalsverifier.testhelpers.ExpectedException;
 import nl.jqno.equalsverifier.testhelpers.FactoryCacheFactory;
 import nl.jqno.equalsverifier.testhelpers.types.Point;
 import org.junit.jupiter.api.Test;
@@ -43,6 +49,133 @@ public class FieldInspectorTest {
         );
     }
 
+    @Test
+    public void objectsAreReset_whenEachIterationBegins_givenOnePass() {
+        FieldInspector<Point> inspector = new FieldInspector<>(accessor, TypeTag.NULL);
+        Set<String> nullFields = new HashSet<>();
+        AnnotationCache annotationCache = new AnnotationCache();
+        FieldCheck<Point> nullCheck = new ResetObjectForEachIterationCheck<>();
+
+        inspector.checkInOnePass(
+            Arrays.asList(
+                Step.of(new ResetObjectForEachIterationCheck<>()),
+                Step.withNull(nullFields, annotationCache, nullCheck),
+                Step.of(new ResetObjectForEachIterationCheck<>())
+            )
+        );
+    }
+
+    @Test
+    public void earliestStepFails_givenOnePass_whenALaterStepFailsOnAnEarlierField() {
+        FieldInspector<Point> inspector = new FieldInspector<>(accessor, TypeTag.NULL);
+
+        ExpectedException
+            .when(() ->
+                inspector.checkInOnePass(
+                    Arrays.asList(Step.of(failOn("y", "first")), Step.of(failOn("x", "second")))
+                )
+            )
+            .assertThrows(IllegalStateException.class)
+            .assertMessageContains("first");
+    }
+
+    @Test
+    public void earliestFieldFails_givenOnePass_whenAStepFailsOnSeveralFields() {
+        FieldInspector<Point> inspector = new FieldInspector<>(accessor, TypeTag.NULL);
+        FieldCheck<Point> failOnEveryField = (reference, copy, field) -> {
+            throw new IllegalStateException(field.getFieldName());
+        };
+
+        ExpectedException
+            .when(() -> inspector.checkInOnePass(Arrays.asList(Step.of(failOnEveryField))))
+            .assertThrows(IllegalStateException.class)
+            .assertMessageContains("x");
+    }
+
+    @Test
+    public void earliestStepFails_givenParallelism_whenALaterStepFailsOnAnEarlierField() {
+        FieldInspector<Point> inspector = new FieldInspector<>(accessor, TypeTag.NULL);
+
+        ExpectedException
+            .when(() ->
+                inspector.checkInOnePass(
+                    Arrays.asList(Step.of(failOn("y", "first")), Step.of(failOn("x", "second"))),
+                    2,
+                    Scheduler.platformThreads()
+                )
+            )
+            .assertThrows(IllegalStateException.class)
+            .assertMessageContains("first");
+    }
+
+    @Test
+    public void earliestFieldFails_givenParallelism_whenAStepFailsOnSeveralFields() {
+        FieldInspector<Point> inspector = new FieldInspector<>(accessor, TypeTag.NULL);
+        FieldCheck<Point> failOnEveryField = (reference, copy, field) -> {
+            throw new IllegalStateException(field.getFieldName());
+        };
+
+        ExpectedException
+            .when(() ->
+                inspector.checkInOnePass(
+                    Arrays.asList(Step.of(failOnEveryField)),
+                    2,
+                    Scheduler.platformThreads()
+                )
+            )
+            .assertThrows(IllegalStateException.class)
+            .assertMessageContains("x");
+    }
+
+    @Test
+    public void earliestStepFails_givenOnePass_whenALaterStepOverflowsOnAnEarlierField() {
+        FieldInspector<Point> inspector = new FieldInspector<>(accessor, TypeTag.NULL);
+        FieldCheck<Point> assertOnY = (reference, copy, field) -> {
+            if (field.getFieldName().equals("y")) {
+                throw new AssertionException(Formatter.of("first"));
+            }
+        };
+        FieldCheck<Point> overflowOnX = (reference, copy, field) -> {
+            if (field.getFieldName().equals("x")) {
+                throw new StackOverflowError("second");
+            }
+        };
+
+        ExpectedException
+            .when(() ->
+                inspector.checkInOnePass(Arrays.asList(Step.of(assertOnY), Step.of(overflowOnX)))
+            )
+            .assertThrows(AssertionException.class)
+            .assertDescriptionContains("first");
+    }
+
+    @Test
+    public void vmErrorPropagatesImmediately_givenOnePass_evenIfAnEarlierStepFailsLater() {
+        FieldInspector<Point> inspector = new FieldInspector<>(accessor, TypeTag.NULL);
+        FieldCheck<Point> outOfMemoryOnX = (reference, copy, field) -> {
+            if (field.getFieldName().equals("x")) {
+                throw new OutOfMemoryError("second");
+            }
+        };
+
+        ExpectedException
+            .when(() ->
+                inspector.checkInOnePass(
+                    Arrays.asList(Step.of(failOn("y", "first")), Step.of(outOfMemoryOnX))
+                )
+            )
+            .assertThrows(OutOfMemoryError.class)
+            .assertMessageContains("second");
+    }
+
+    private static FieldCheck<Point> failOn(String fieldName, String message) {
+        return (reference, copy, field) -> {
+            if (field.getFieldName().equals(fieldName)) {
+                throw new IllegalStateException(message);
+            }
+        };
+    }
+
     private final class ResetObjectForEachIterationCheck<T> implements FieldCheck<T> {
 
         private Object originalReference;
@@ -2,7 +2,7 @@ package nl.jqno.equalsverifier.internal.exceptions;
 
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
-import java.util.LinkedHashSet;
+import nl.jqno.equalsverifier.internal.prefabvalues.TypeStack;
 import nl.jqno.equalsverifier.internal.prefabvalues.TypeTag;
 import nl.jqno.equalsverifier.testhelpers.types.Point;
 import org.junit.jupiter.api.Test;
@@ -11,10 +11,11 @@ public class RecursionExceptionTest {
 
     @Test
     public void descriptionContainsAllTypes() {
-        LinkedHashSet<TypeTag> stack = new LinkedHashSet<>();
-        stack.add(new TypeTag(String.class));
-        stack.add(new TypeTag(Point.class));
-        stack.add(new TypeTag(Object.class));
+        TypeStack stack = TypeStack
+            .empty()
+            .push(new TypeTag(String.class))
+            .push(new TypeTag(Point.class))
+            .push(new TypeTag(Object.class));
 
         String message = new RecursionException(stack).getDescription();
 
@@ -54,4 +54,124 @@ public class FactoryCacheTest {
     public void doesntContain() {
         assertFalse(cache.contains(STRING_CLASS));
     }
+
+    @Test
+    public void frozenCacheCannotBeModified() {
+        cache.put(STRING_CLASS, STRING_FACTORY);
+        FactoryCache frozen = cache.freeze();
+
+        assertEquals(STRING_FACTORY, frozen.get(STRING_CLASS));
+        assertThrows(UnsupportedOperationException.class, () -> frozen.put(INT_CLASS, INT_FACTORY));
+    }
+
+    @Test
+    public void frozenCacheFindsFactoriesThatWereRegisteredByName() {
+        cache.put(STRING_CLASS.getName(), STRING_FACTORY);
+        FactoryCache frozen = cache.freeze();
+
+        assertTrue(frozen.contains(STRING_CLASS));
+        assertSame(STRING_FACTORY, frozen.get(STRING_CLASS));
+    }
+
+    @Test
+    public void frozenCacheIsNotAffectedByChangesToTheOriginal() {
+        FactoryCache frozen = cache.freeze();
+        cache.put(STRING_CLASS, STRING_FACTORY);
+
+        assertFalse(frozen.contains(STRING_CLASS));
+    }
+
+    @Test
+    public void overlayTakesPrecedence() {
+        PrefabValueFactory<String> otherStringFactory = new SimpleFactory<>("a", "b", "a");
+        cache.put(STRING_CLASS, STRING_FACTORY);
+        cache.put(INT_CLASS, INT_FACTORY);
+        FactoryCache overlay = new FactoryCache();
+        overlay.put(STRING_CLASS, otherStringFactory);
+
+        FactoryCache combined = cache.freeze().withOverlay(overlay);
+
+        assertEquals(otherStringFactory, combined.get(STRING_CLASS));
+        assertEquals(INT_FACTORY, combined.get(INT_CLASS));
+        assertTrue(combined.contains(INT_CLASS));
+        assertNull(combined.get(Object.class));
+    }
+
+    @Test
+    public void overlayIsAView() {
+        FactoryCache overlay = new FactoryCache();
+        FactoryCache combined = cache.withOverlay(overlay);
+        overlay.put(STRING_CLASS, STRING_FACTORY);
+
+        assertEquals(STRING_FACTORY, combined.get(STRING_CLASS));
+    }
+
+    @Test
+    public void overlayCannotBeModified() {
+        FactoryCache combined = cache.withOverlay(new FactoryCache());
+        assertThrows(
+            UnsupportedOperationException.class,
+            () -> combined.put(STRING_CLASS, STRING_FACTORY)
+        );
+    }
+
+    @Test
+    public void iteratingOverAnOverlayGivesEntriesFromBothCaches() {
+        cache.put(INT_CLASS, INT_FACTORY);
+        FactoryCache overlay = new FactoryCache();
+        overlay.put(STRING_CLASS, STRING_FACTORY);
+
+        FactoryCache copy = new FactoryCache().merge(cache.withOverlay(overlay));
+
+        assertEquals(INT_FACTORY, copy.get(INT_CLASS));
+        assertEquals(STRING_FACTORY, copy.get(STRING_CLASS));
+    }
+
+    @Test
+    public void identitiesAreEqual_whenCachesContainTheSameFactories() {
+        cache.put(STRING_CLASS, STRING_FACTORY);
+        FactoryCache other = new FactoryCache().merge(cache);
+
+        assertEquals(cache.identity(), other.identity());
+        assertEquals(cache.identity().hashCode(), other.identity().hashCode());
+    }
+
+    @Test
+    public void identitiesAreNotEqual_whenCachesContainDifferentFactories() {
+        cache.put(STRING_CLASS, STRING_FACTORY);
+        FactoryCache other = new FactoryCache();
+        other.put(STRING_CLASS, new SimpleFactory<>("red", "blue", new String("red")));
+
+        assertNotEquals(cache.identity(), other.identity());
+    }
+
+    @Test
+    public void identityDoesNotChange_whenCacheChanges() {
+        Object before = cache.identity();
+        cache.put(STRING_CLASS, STRING_FACTORY);
+
+        assertNotEquals(before, cache.identity());
+    }
+
+    @Test
+    public void identityOfFrozenCacheIsTheCacheItself() {
+        FactoryCache frozen = cache.freeze();
+        assertSame(frozen, frozen.identity());
+    }
+
+    @Test
+    public void identitiesOfOverlaysAreEqual_whenBaseAndOverlayAreEquivalent() {
+        FactoryCache base = cache.freeze();
+        FactoryCache overlay = new FactoryCache();
+        overlay.put(STRING_CLASS, STRING_FACTORY);
+
+        assertEquals(
+            base.withOverlay(overlay).identity(),
+            base.withOverlay(new FactoryCache().merge(overlay)).identity()
+        );
+        assertNotEquals(
+            base.withOverlay(overlay).identity(),
+            cache.freeze().withOverlay(overlay).identity()
+        );
+    }
 }
@@ -0,0 +1,81 @@
+package nl.jqno.equalsverifier.internal.prefabvalues;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import nl.jqno.equalsverifier.PrefabValueProvider;
+import nl.jqno.equalsverifier.internal.exceptions.ReflectionException;
+import nl.jqno.equalsverifier.testhelpers.ExpectedException;
+import org.junit.jupiter.api.Test;
+
+/*
+ * StringProvider and FailingProvider are registered in src/test/resources/META-INF/services.
+ */
+public class PrefabValueProvidersTest {
+
+    private static final TypeTag STRING_TAG = new TypeTag(String.class);
+
+    @Test
+    public void providedValuesAreAdded() {
+        FactoryCache cache = new FactoryCache();
+        PrefabValueProviders.addTo(cache);
+
+        Tuple<String> tuple = cache.get(String.class).createValues(STRING_TAG, null, null);
+        assertEquals(StringProvider.RED, tuple.getRed());
+    }
+
+    @Test
+    public void providedValuesDontOverrideBuiltInValues() {
+        Tuple<String> tuple = JavaApiPrefabValues
+            .frozen()
+            .get(String.class)
+            .createValues(STRING_TAG, null, null);
+        assertNotEquals(StringProvider.RED, tuple.getRed());
+    }
+
+    @Test
+    public void failingProviderSurfacesAsReflectionException() {
+        FailingProvider.fail = true;
+        try {
+            ExpectedException
+                .when(() -> PrefabValueProviders.addTo(new FactoryCache()))
+                .assertThrows(ReflectionException.class)
+                .assertMessageContains(FailingProvider.class.getName(), "failed");
+        } finally {
+            FailingProvider.fail = false;
+        }
+    }
+
+    @Test
+    public void providersAreDiscoveredAgain_whenReset() {
+        FactoryCache before = JavaApiPrefabValues.frozen();
+        assertSame(before, JavaApiPrefabValues.frozen());
+
+        JavaApiPrefabValues.reset();
+        assertNotSame(before, JavaApiPrefabValues.frozen());
+    }
+
+    public static final class StringProvider implements PrefabValueProvider {
+
+        private static final String RED = "provided red";
+
+        @Override
+        public void addPrefabValues(Registry registry) {
+            registry.withPrefabValues(String.class, RED, "provided blue");
+        }
+    }
+
+    public static final class FailingProvider implements PrefabValueProvider {
+
+        private static volatile boolean fail = false;
+
+        @Override
+        public void addPrefabValues(Registry registry) {
+            if (fail) {
+                throw new IllegalStateException("provider failure");
+            }
+        }
+    }
+}
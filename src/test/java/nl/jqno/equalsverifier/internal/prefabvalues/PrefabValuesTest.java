@@ -6,8 +6,12 @@ import static nl.jqno.equalsverifier.testhelpers.Util.defaultHashCode;
 import static org.junit.jupiter.api.Assertions.*;
 
 import java.util.ArrayList;
-import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import nl.jqno.equalsverifier.internal.exceptions.ReflectionException;
 import nl.jqno.equalsverifier.internal.prefabvalues.factories.PrefabValueFactory;
 import nl.jqno.equalsverifier.testhelpers.ExpectedException;
@@ -75,6 +79,27 @@ public class PrefabValuesTest {
         assertNotSame(pv.giveRed(STRING_TAG), pv.giveRedCopy(STRING_TAG));
     }
 
+    @Test
+    public void valuesAreShared_givenSharedCacheAndSameFactories() {
+        SharedCache sharedCache = new SharedCache(10);
+        PrefabValues first = new PrefabValues(factoryCache, sharedCache);
+        PrefabValues second = new PrefabValues(factoryCache, sharedCache);
+
+        assertSame(first.<Point>giveRed(POINT_TAG), second.<Point>giveRed(POINT_TAG));
+        assertEquals("r", second.giveRed(STRING_TAG));
+    }
+
+    @Test
+    public void valuesAreNotShared_givenSharedCacheAndDifferentFactories() {
+        SharedCache sharedCache = new SharedCache(10);
+        FactoryCache otherFactoryCache = new FactoryCache().merge(factoryCache);
+        otherFactoryCache.put(int.class, values(1, 2, 1));
+        PrefabValues first = new PrefabValues(factoryCache, sharedCache);
+        PrefabValues second = new PrefabValues(otherFactoryCache, sharedCache);
+
+        assertNotSame(first.<Point>giveRed(POINT_TAG), second.<Point>giveRed(POINT_TAG));
+    }
+
     @Test
     public void giveRedFromFallbackFactory() {
         Point actual = pv.giveRed(POINT_TAG);
@@ -243,6 +268,52 @@ public class PrefabValuesTest {
         }
     }
 
+    @Test
+    public void valuesAreCreatedOnce_whenSeveralThreadsAskForThemAtTheSameTime() throws Exception {
+        AtomicInteger created = new AtomicInteger();
+        factoryCache.put(
+            Point.class,
+            (t, p, ts) -> {
+                created.incrementAndGet();
+                sleep(20);
+                return Tuple.of(new Point(1, 2), new Point(3, 4), new Point(1, 2));
+            }
+        );
+        pv = new PrefabValues(factoryCache);
+
+        int threads = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Object>> reds = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                reds.add(
+                    executor.submit(() -> {
+                        start.await();
+                        return pv.giveRed(POINT_TAG);
+                    })
+                );
+            }
+            start.countDown();
+
+            Object first = reds.get(0).get();
+            for (Future<Object> red : reds) {
+                assertSame(first, red.get());
+            }
+            assertEquals(1, created.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void sleep(int millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
     public static class NpeThrowing {
 
         private final int i;
@@ -280,7 +351,7 @@ public class PrefabValuesTest {
         public Tuple<String> createValues(
             TypeTag tag,
             PrefabValues prefabValues,
-            LinkedHashSet<TypeTag> typeStack
+            TypeStack typeStack
         ) {
             red += "r";
             blue += "b";
@@ -296,7 +367,7 @@ public class PrefabValuesTest {
         public Tuple<List> createValues(
             TypeTag tag,
             PrefabValues prefabValues,
-            LinkedHashSet<TypeTag> typeStack
+            TypeStack typeStack
         ) {
             TypeTag subtag = tag.getGenericTypes().get(0);
 
@@ -0,0 +1,63 @@
+package nl.jqno.equalsverifier.internal.prefabvalues;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.junit.jupiter.api.Test;
+
+public class SharedCacheTest {
+
+    private static final TypeTag STRING_TAG = new TypeTag(String.class);
+    private static final Tuple<String> STRING_TUPLE = new Tuple<>("red", "blue", new String("red"));
+    private static final TypeTag INT_TAG = new TypeTag(int.class);
+    private static final Tuple<Integer> INT_TUPLE = new Tuple<>(42, 1337, 42);
+    private static final Object IDENTITY = new Object();
+
+    private SharedCache cache = new SharedCache(2);
+
+    @Test
+    public void putAndGetTuple() {
+        cache.put(IDENTITY, STRING_TAG, STRING_TUPLE);
+        assertSame(STRING_TUPLE, cache.get(IDENTITY, STRING_TAG));
+    }
+
+    @Test
+    public void doesntContain() {
+        assertNull(cache.get(IDENTITY, STRING_TAG));
+    }
+
+    @Test
+    public void doesntContain_whenFactoryCacheIdentityIsDifferent() {
+        cache.put(IDENTITY, STRING_TAG, STRING_TUPLE);
+        assertNull(cache.get(new Object(), STRING_TAG));
+    }
+
+    @Test
+    public void firstTupleIsKept_whenPuttingTwice() {
+        cache.put(IDENTITY, STRING_TAG, STRING_TUPLE);
+        cache.put(IDENTITY, STRING_TAG, new Tuple<>("a", "b", "a"));
+        assertSame(STRING_TUPLE, cache.get(IDENTITY, STRING_TAG));
+    }
+
+    @Test
+    public void oldestTupleIsEvicted_whenCacheIsFull() {
+        TypeTag longTag = new TypeTag(long.class);
+        cache.put(IDENTITY, STRING_TAG, STRING_TUPLE);
+        cache.put(IDENTITY, INT_TAG, INT_TUPLE);
+        cache.put(IDENTITY, longTag, new Tuple<>(1L, 2L, 1L));
+
+        assertEquals(2, cache.size());
+        assertNull(cache.get(IDENTITY, STRING_TAG));
+        assertSame(INT_TUPLE, cache.get(IDENTITY, INT_TAG));
+    }
+
+    @Test
+    public void clear() {
+        cache.put(IDENTITY, STRING_TAG, STRING_TUPLE);
+        cache.clear();
+
+        assertEquals(0, cache.size());
+        assertNull(cache.get(IDENTITY, STRING_TAG));
+    }
+}
@@ -0,0 +1,73 @@
+package nl.jqno.equalsverifier.internal.prefabvalues;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import nl.jqno.equalsverifier.testhelpers.types.Point;
+import org.junit.jupiter.api.Test;
+
+public class TypeStackTest {
+
+    private static final TypeTag STRING = new TypeTag(String.class);
+    private static final TypeTag POINT = new TypeTag(Point.class);
+    private static final TypeTag LIST_OF_STRING = new TypeTag(List.class, STRING);
+    private static final TypeTag LIST_OF_POINT = new TypeTag(List.class, POINT);
+
+    @Test
+    public void emptyStackContainsNothing() {
+        TypeStack stack = TypeStack.empty();
+
+        assertTrue(stack.isEmpty());
+        assertFalse(stack.contains(STRING));
+    }
+
+    @Test
+    public void containsPushedTypes() {
+        TypeStack stack = TypeStack.empty().push(STRING).push(LIST_OF_STRING);
+
+        assertEquals(2, stack.size());
+        assertTrue(stack.contains(STRING));
+        assertTrue(stack.contains(new TypeTag(List.class, new TypeTag(String.class))));
+        assertFalse(stack.contains(POINT));
+        assertFalse(stack.contains(LIST_OF_POINT));
+    }
+
+    @Test
+    public void pushDoesNotModifyTheOriginalStack() {
+        TypeStack original = TypeStack.empty().push(STRING);
+        TypeStack pushed = original.push(POINT);
+
+        assertFalse(original.contains(POINT));
+        assertTrue(pushed.contains(POINT));
+        assertEquals(1, original.size());
+    }
+
+    @Test
+    public void iteratesInTheOrderInWhichTypesWerePushed() {
+        TypeStack stack = TypeStack.empty().push(STRING).push(POINT).push(LIST_OF_POINT);
+
+        List<TypeTag> actual = new ArrayList<>();
+        stack.forEach(actual::add);
+
+        assertEquals(Arrays.asList(STRING, POINT, LIST_OF_POINT), actual);
+    }
+
+    @Test
+    public void findsTypesInDeepStacks() {
+        TypeStack stack = TypeStack.empty().push(STRING);
+        TypeTag tag = POINT;
+        for (int i = 0; i < 200; i++) {
+            tag = new TypeTag(List.class, tag);
+            stack = stack.push(tag);
+        }
+
+        assertEquals(201, stack.size());
+        assertTrue(stack.contains(STRING));
+        assertTrue(stack.contains(LIST_OF_POINT));
+        assertFalse(stack.contains(POINT));
+    }
+}
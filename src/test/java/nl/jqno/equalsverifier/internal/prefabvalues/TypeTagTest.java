@@ -1,6 +1,7 @@
 package nl.jqno.equalsverifier.internal.prefabvalues;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.lang.reflect.Field;
@@ -25,6 +26,8 @@ public class TypeTagTest {
         EqualsVerifier
             .forClass(TypeTag.class)
             .withPrefabValues(TypeTag.class, new TypeTag(Integer.class), SOME_LONG_TYPETAG)
+            .withCachedHashCode("cachedHashCode", "calculateHashCode", SOME_LONG_TYPETAG)
+            .withIgnoredFields("resolvedFields", "typeVariableLookup")
             .suppress(Warning.NULL_FIELDS)
             .verify();
     }
@@ -130,6 +133,33 @@ public class TypeTagTest {
         assertEquals(expected, actual);
     }
 
+    @Test
+    public void sameFieldGivesSameInstance_givenEqualNonGenericEnclosingTypes() throws Exception {
+        Field f = ContainerContainer.class.getDeclaredField("stringContainer");
+        TypeTag first = TypeTag.of(f, new TypeTag(ContainerContainer.class));
+        TypeTag second = TypeTag.of(f, new TypeTag(ContainerContainer.class));
+
+        assertSame(first, second);
+    }
+
+    @Test
+    public void sameFieldGivesSameInstance_givenTheSameGenericEnclosingType() throws Exception {
+        TypeTag enclosingType = new TypeTag(Container.class, new TypeTag(String.class));
+        Field f = Container.class.getDeclaredField("ts");
+
+        assertSame(TypeTag.of(f, enclosingType), TypeTag.of(f, enclosingType));
+    }
+
+    @Test
+    public void sameFieldIsResolvedAgain_givenADifferentGenericEnclosingType() throws Exception {
+        Field f = Container.class.getDeclaredField("t");
+        TypeTag strings = new TypeTag(Container.class, new TypeTag(String.class));
+        TypeTag integers = new TypeTag(Container.class, new TypeTag(Integer.class));
+
+        assertEquals(new TypeTag(String.class), TypeTag.of(f, strings));
+        assertEquals(new TypeTag(Integer.class), TypeTag.of(f, integers));
+    }
+
     @SuppressWarnings("unused")
     static class ContainerContainer {
 
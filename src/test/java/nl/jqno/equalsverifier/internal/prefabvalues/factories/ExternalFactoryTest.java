@@ -0,0 +1,70 @@
+package nl.jqno.equalsverifier.internal.prefabvalues.factories;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.google.common.collect.HashMultiset;
+import com.google.common.collect.Multiset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import nl.jqno.equalsverifier.internal.prefabvalues.JavaApiPrefabValues;
+import nl.jqno.equalsverifier.internal.prefabvalues.PrefabValues;
+import nl.jqno.equalsverifier.internal.prefabvalues.Tuple;
+import nl.jqno.equalsverifier.internal.prefabvalues.TypeStack;
+import nl.jqno.equalsverifier.internal.prefabvalues.TypeTag;
+import org.junit.jupiter.api.Test;
+
+public class ExternalFactoryTest {
+
+    private static final String GUAVA_PROVIDER = "GuavaFactoryProvider";
+    private static final TypeTag MULTISET_TAG = new TypeTag(
+        Multiset.class,
+        new TypeTag(String.class)
+    );
+
+    private final PrefabValues prefabValues = new PrefabValues(JavaApiPrefabValues.build());
+
+    @Test
+    public void prewarmLoadsProvider_whenLibraryIsPresent() {
+        String multiset = Multiset.class.getName();
+        ExternalFactory<?> factory = new ExternalFactory<>(GUAVA_PROVIDER, multiset);
+        assertTrue(factory.prewarm());
+    }
+
+    @Test
+    public void prewarmDoesNothing_whenLibraryIsAbsent() {
+        ExternalFactory<?> factory = new ExternalFactory<>(GUAVA_PROVIDER, "com.example.Absent");
+        assertFalse(factory.prewarm());
+    }
+
+    @Test
+    public void prewarmDoesNothing_whenNoRequiredClassIsGiven() {
+        ExternalFactory<?> factory = new ExternalFactory<>(GUAVA_PROVIDER);
+        assertFalse(factory.prewarm());
+    }
+
+    @Test
+    public void createValuesFromSeveralThreadsAtOnce() throws Exception {
+        ExternalFactory<Multiset<String>> factory = new ExternalFactory<>(GUAVA_PROVIDER);
+        Callable<Tuple<Multiset<String>>> task = () ->
+            factory.createValues(MULTISET_TAG, prefabValues, TypeStack.empty());
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Tuple<Multiset<String>>>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(executor.submit(task));
+            }
+            for (Future<Tuple<Multiset<String>>> future : futures) {
+                assertEquals(HashMultiset.class, future.get().getRed().getClass());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
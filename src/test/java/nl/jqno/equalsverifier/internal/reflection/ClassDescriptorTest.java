@@ -0,0 +1,78 @@
+package nl.jqno.equalsverifier.internal.reflection;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import nl.jqno.equalsverifier.testhelpers.types.PointContainer;
+import nl.jqno.equalsverifier.testhelpers.types.TypeHelper.AbstractEqualsAndHashCode;
+import nl.jqno.equalsverifier.testhelpers.types.TypeHelper.Empty;
+import nl.jqno.equalsverifier.testhelpers.types.TypeHelper.Interface;
+import org.junit.jupiter.api.Test;
+
+public class ClassDescriptorTest {
+
+    @Test
+    public void descriptorIsComputedOnlyOnce() {
+        ClassDescriptor descriptor = ClassDescriptor.of(PointContainer.class);
+        assertSame(descriptor, ClassDescriptor.of(PointContainer.class));
+    }
+
+    @Test
+    public void declaredMethods() {
+        assertTrue(ClassDescriptor.of(PointContainer.class).declaresEquals());
+        assertTrue(ClassDescriptor.of(PointContainer.class).declaresHashCode());
+        assertFalse(ClassDescriptor.of(Empty.class).declaresEquals());
+        assertFalse(ClassDescriptor.of(Empty.class).declaresHashCode());
+    }
+
+    @Test
+    public void overloadedEqualsIsNotEquals() {
+        assertFalse(ClassDescriptor.of(OverloadedEquals.class).declaresEquals());
+    }
+
+    @Test
+    public void abstractnessIsInherited() {
+        assertEquals(true, ClassDescriptor.of(AbstractEqualsAndHashCode.class).isEqualsAbstract());
+        assertEquals(true, ClassDescriptor.of(StillAbstract.class).isHashCodeAbstract());
+        assertEquals(false, ClassDescriptor.of(Empty.class).isEqualsAbstract());
+    }
+
+    @Test
+    public void interfacesHaveNoEqualsToInherit() {
+        assertNull(ClassDescriptor.of(Interface.class).isEqualsAbstract());
+    }
+
+    @Test
+    public void equalsIsInheritedFromObject() {
+        assertTrue(ClassDescriptor.of(Object.class).isEqualsInheritedFromObject());
+        assertTrue(ClassDescriptor.of(Empty.class).isEqualsInheritedFromObject());
+        assertTrue(ClassDescriptor.of(StillAbstract.class).isEqualsInheritedFromObject());
+        assertFalse(ClassDescriptor.of(PointContainer.class).isEqualsInheritedFromObject());
+        assertFalse(ClassDescriptor.of(SubOfPointContainer.class).isEqualsInheritedFromObject());
+    }
+
+    @Test
+    public void ordinaryClassIsNeitherRecordNorSealed() {
+        assertFalse(ClassDescriptor.of(PointContainer.class).isRecord());
+        assertFalse(ClassDescriptor.of(PointContainer.class).isSealed());
+    }
+
+    static class OverloadedEquals {
+
+        public boolean equals(OverloadedEquals other) {
+            return true;
+        }
+    }
+
+    abstract static class StillAbstract extends AbstractEqualsAndHashCode {}
+
+    static final class SubOfPointContainer extends PointContainer {
+
+        SubOfPointContainer() {
+            super(null);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package nl.jqno.equalsverifier.internal.reflection;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import nl.jqno.equalsverifier.internal.prefabvalues.JavaApiPrefabValues;
+import nl.jqno.equalsverifier.internal.prefabvalues.PrefabValues;
+import nl.jqno.equalsverifier.internal.prefabvalues.TypeTag;
+import nl.jqno.equalsverifier.testhelpers.types.Point3D;
+import nl.jqno.equalsverifier.testhelpers.types.TypeHelper.StaticContainer;
+import org.junit.jupiter.api.Test;
+
+public class FieldAccessPlanTest {
+
+    private final PrefabValues prefabValues = new PrefabValues(JavaApiPrefabValues.build());
+
+    @Test
+    public void planIsComputedOnlyOnce() {
+        assertSame(FieldAccessPlan.of(Point3D.class), FieldAccessPlan.of(Point3D.class));
+    }
+
+    @Test
+    public void planIsAvailableForRegularClass() {
+        assertTrue(FieldAccessPlan.of(Point3D.class).isAvailable());
+    }
+
+    @Test
+    public void copyIncludesSuperclassFields() {
+        Point3D from = new Point3D(1, 2, 3);
+        Point3D to = new Point3D(0, 0, 0);
+
+        FieldAccessPlan.of(Point3D.class).copy(from, to);
+
+        assertEquals(from, to);
+        assertEquals(3, to.z);
+    }
+
+    @Test
+    public void scrambleChangesAllFields() {
+        Point3D original = new Point3D(1, 2, 3);
+        Point3D scrambled = new Point3D(1, 2, 3);
+
+        FieldAccessPlan.of(Point3D.class).scramble(scrambled, prefabValues, TypeTag.NULL);
+
+        assertNotEquals(original.z, scrambled.z);
+        assertNotEquals(original.x, scrambled.x);
+    }
+
+    @Test
+    public void clearDefaultsFieldsThatCanBeDefault() {
+        Point3D point = new Point3D(1, 2, 3);
+
+        FieldAccessPlan
+            .of(Point3D.class)
+            .clear(point, f -> !f.getName().equals("z"), prefabValues, TypeTag.NULL);
+
+        assertEquals(0, point.x);
+        assertNotEquals(0, point.z);
+    }
+
+    @Test
+    public void staticFieldsAreSkipped() {
+        Object before = StaticContainer.field;
+
+        FieldAccessPlan
+            .of(StaticContainer.class)
+            .scramble(new StaticContainer(), prefabValues, TypeTag.NULL);
+
+        assertSame(before, StaticContainer.field);
+    }
+}
@@ -0,0 +1,120 @@
+package nl.jqno.equalsverifier.internal.reflection;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Field;
+import nl.jqno.equalsverifier.testhelpers.ExpectedException;
+import org.junit.jupiter.api.Test;
+
+public class FieldAccessStrategyTest {
+
+    @Test
+    public void instanceFieldsUseMethodHandles() {
+        assertTrue(strategy("i") instanceof MethodHandleAccessStrategy);
+        assertTrue(strategy("s") instanceof MethodHandleAccessStrategy);
+    }
+
+    @Test
+    public void staticFinalFieldsFallBackToReflection() {
+        assertTrue(strategy("CONSTANT") instanceof ReflectiveAccessStrategy);
+    }
+
+    @Test
+    public void getAndSetPrimitiveField() throws IllegalAccessException {
+        Container c = new Container();
+        FieldAccessStrategy access = strategy("i");
+        access.set(c, 42);
+        assertEquals(42, c.i);
+        assertEquals(42, access.get(c));
+    }
+
+    @Test
+    public void copyAndDefaultPrimitiveField() throws IllegalAccessException {
+        Container from = new Container();
+        Container to = new Container();
+        from.i = 1337;
+        FieldAccessStrategy access = strategy("i");
+
+        access.copy(from, to);
+        assertEquals(1337, to.i);
+
+        access.setToDefault(to);
+        assertEquals(0, to.i);
+    }
+
+    @Test
+    public void copyAndDefaultObjectField() throws IllegalAccessException {
+        Container from = new Container();
+        Container to = new Container();
+        from.s = "x";
+        FieldAccessStrategy access = strategy("s");
+
+        access.copy(from, to);
+        assertSame(from.s, to.s);
+
+        access.setToDefault(to);
+        assertNull(to.s);
+    }
+
+    @Test
+    public void staticFieldIgnoresObject() throws IllegalAccessException {
+        FieldAccessStrategy access = strategy("counter");
+        access.set(null, 3);
+        assertEquals(3, Container.counter);
+        access.setToDefault(new Container());
+        assertEquals(0, Container.counter);
+    }
+
+    @Test
+    public void wrongTypeOfValueIsReportedLikeReflection() {
+        ExpectedException
+            .when(() -> strategy("s").set(new Container(), 1))
+            .assertThrows(IllegalArgumentException.class)
+            .assertMessageContains("Can not set");
+    }
+
+    @Test
+    public void wrongTypeOfObjectIsReportedLikeReflection() {
+        ExpectedException
+            .when(() -> strategy("i").get("not a Container"))
+            .assertThrows(IllegalArgumentException.class)
+            .assertMessageContains("Can not set");
+    }
+
+    @Test
+    public void nullIntoPrimitiveIsReportedLikeReflection() {
+        ExpectedException
+            .when(() -> strategy("i").set(new Container(), null))
+            .assertThrows(IllegalArgumentException.class)
+            .assertMessageContains("Can not set");
+    }
+
+    @Test
+    public void strategyIsSharedThroughLayout() throws NoSuchFieldException {
+        Field field = Container.class.getDeclaredField("i");
+        FieldAccessor accessor = FieldLayout.accessorFor(field);
+        assertSame(accessor, FieldLayout.accessorFor(field));
+        assertSame(accessor.access(), FieldLayout.accessorFor(field).access());
+    }
+
+    private static FieldAccessStrategy strategy(String name) {
+        try {
+            return FieldAccessStrategy.of(Container.class.getDeclaredField(name));
+        } catch (NoSuchFieldException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @SuppressWarnings("unused")
+    static final class Container {
+
+        private static final int CONSTANT = 1;
+        private static int counter;
+
+        private int i;
+        private String s;
+    }
+}
@@ -0,0 +1,89 @@
+package nl.jqno.equalsverifier.internal.reflection;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import nl.jqno.equalsverifier.testhelpers.types.TypeHelper.DifferentAccessModifiersFieldContainer;
+import nl.jqno.equalsverifier.testhelpers.types.TypeHelper.DifferentAccessModifiersSubFieldContainer;
+import nl.jqno.equalsverifier.testhelpers.types.TypeHelper.SubEmptySubFieldContainer;
+import org.junit.jupiter.api.Test;
+
+public class FieldLayoutTest {
+
+    @Test
+    public void layoutIsComputedOnlyOnce() {
+        assertSame(
+            FieldLayout.of(DifferentAccessModifiersFieldContainer.class),
+            FieldLayout.of(DifferentAccessModifiersFieldContainer.class)
+        );
+    }
+
+    @Test
+    public void instanceFieldsComeBeforeStaticFields() {
+        List<FieldAccessor> fields = FieldLayout
+            .of(DifferentAccessModifiersFieldContainer.class)
+            .getDeclaredFields();
+
+        assertEquals(8, fields.size());
+        assertTrue(fields.subList(0, 4).stream().noneMatch(FieldAccessor::fieldIsStatic));
+        assertTrue(fields.subList(4, 8).stream().allMatch(FieldAccessor::fieldIsStatic));
+    }
+
+    @Test
+    public void superclassFieldsComeAfterSubclassFields() {
+        List<String> names = names(
+            FieldLayout.of(DifferentAccessModifiersSubFieldContainer.class).getAllFields()
+        );
+
+        assertEquals(12, names.size());
+        assertTrue(names.subList(0, 4).containsAll(Arrays.asList("a", "b", "c", "d")));
+        assertTrue(names.subList(4, 8).containsAll(Arrays.asList("i", "j", "k", "l")));
+    }
+
+    @Test
+    public void superclassFieldsAreShared() {
+        List<FieldAccessor> superFields = FieldLayout
+            .of(DifferentAccessModifiersFieldContainer.class)
+            .getAllFields();
+        List<FieldAccessor> subFields = FieldLayout
+            .of(DifferentAccessModifiersSubFieldContainer.class)
+            .getAllFields();
+
+        assertSame(superFields.get(0), subFields.get(4));
+    }
+
+    @Test
+    public void instanceFieldsIgnoreStaticFieldsOfAllClasses() {
+        List<String> names = names(
+            FieldLayout.of(SubEmptySubFieldContainer.class).getAllInstanceFields()
+        );
+
+        assertEquals("field", names.get(0));
+        assertEquals(5, names.size());
+        assertFalse(names.contains("I"));
+    }
+
+    @Test
+    public void layoutCannotBeModified() {
+        List<FieldAccessor> fields = FieldLayout
+            .of(DifferentAccessModifiersFieldContainer.class)
+            .getAllFields();
+        assertThrows(UnsupportedOperationException.class, () -> fields.clear());
+    }
+
+    @Test
+    public void primitivesAndArraysHaveNoFields() {
+        assertTrue(FieldLayout.of(int.class).getAllFields().isEmpty());
+        assertTrue(FieldLayout.of(int[].class).getAllFields().isEmpty());
+    }
+
+    private List<String> names(List<FieldAccessor> fields) {
+        return fields.stream().map(FieldAccessor::getFieldName).collect(Collectors.toList());
+    }
+}
@@ -2,7 +2,10 @@ package nl.jqno.equalsverifier.internal.reflection;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
 import nl.jqno.equalsverifier.testhelpers.types.ColorBlindColorPoint;
 import nl.jqno.equalsverifier.testhelpers.types.FinalPoint;
 import nl.jqno.equalsverifier.testhelpers.types.Point;
@@ -87,4 +90,36 @@ public class InstantiatorTest {
         Class<?> actual = instantiator.instantiateAnonymousSubclass().getClass();
         assertEquals(expected, actual);
     }
+
+    @Test
+    public void instantiateTheSameSubclassFromSeveralThreads() throws InterruptedException {
+        class OnlyUsedHere {}
+        int threadCount = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        List<Class<?>> classes = new ArrayList<>();
+        Thread[] threads = new Thread[threadCount];
+        for (int i = 0; i < threadCount; i++) {
+            threads[i] =
+                new Thread(() -> {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    Object o = Instantiator.of(OnlyUsedHere.class).instantiateAnonymousSubclass();
+                    synchronized (classes) {
+                        classes.add(o.getClass());
+                    }
+                });
+            threads[i].start();
+        }
+        start.countDown();
+        for (Thread t : threads) {
+            t.join();
+        }
+
+        assertEquals(threadCount, classes.size());
+        assertEquals(1, new HashSet<>(classes).size());
+        assertNotEquals(OnlyUsedHere.class, classes.get(0));
+    }
 }
@@ -4,13 +4,28 @@ import static nl.jqno.equalsverifier.testhelpers.Util.coverThePrivateConstructor
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import nl.jqno.equalsverifier.testhelpers.packages.Initializations;
 import nl.jqno.equalsverifier.testhelpers.packages.correct.*;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class PackageScannerTest {
 
@@ -111,4 +126,96 @@ public class PackageScannerTest {
             classes
         );
     }
+
+    @Test
+    public void streamIsLazy() {
+        try (
+            Stream<Class<?>> classes = PackageScanner.streamClassesIn(
+                "nl.jqno.equalsverifier.testhelpers.packages.lazy",
+                false
+            )
+        ) {
+            assertEquals(0, Initializations.count());
+            assertTrue(classes.findFirst().isPresent());
+            assertEquals(1, Initializations.count());
+        }
+    }
+
+    @Test
+    public void happyPathInJar(@TempDir Path tempDir) throws IOException {
+        Path jar = createJar(tempDir);
+
+        List<Class<?>> classes;
+        Thread thread = Thread.currentThread();
+        ClassLoader original = thread.getContextClassLoader();
+        try (URLClassLoader cl = new URLClassLoader(new URL[] { jar.toUri().toURL() }, null)) {
+            thread.setContextClassLoader(cl);
+            classes =
+                PackageScanner.getClassesIn(
+                    "nl.jqno.equalsverifier.testhelpers.packages.correct",
+                    false
+                );
+        } finally {
+            thread.setContextClassLoader(original);
+        }
+
+        classes.sort(Comparator.comparing(Class::getName));
+        assertEquals(Arrays.asList(A.class, B.class, C.class), classes);
+    }
+
+    @Test
+    public void concurrentScansOfTheSameJarDontCloseEachOthersFileSystem(@TempDir Path tempDir)
+        throws Exception {
+        Path jar = createJar(tempDir);
+        String packageName = "nl.jqno.equalsverifier.testhelpers.packages.correct";
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try (URLClassLoader cl = new URLClassLoader(new URL[] { jar.toUri().toURL() }, null)) {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                results.add(
+                    executor.submit(() -> {
+                        Thread.currentThread().setContextClassLoader(cl);
+                        return PackageScanner.getClassesIn(packageName, true).size();
+                    })
+                );
+            }
+            for (Future<Integer> result : results) {
+                assertEquals(4, result.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private Path createJar(Path tempDir) throws IOException {
+        Path jar = tempDir.resolve("correct.jar");
+        try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar))) {
+            String dir = "";
+            for (String segment : A.class.getPackage().getName().split("\\.")) {
+                dir += segment + "/";
+                out.putNextEntry(new JarEntry(dir));
+            }
+            for (Class<?> c : Arrays.asList(A.class, B.class, C.class)) {
+                copyClassFile(c, out);
+            }
+            copyClassFile(
+                nl.jqno.equalsverifier.testhelpers.packages.correct.subpackage.A.class,
+                out
+            );
+        }
+        return jar;
+    }
+
+    private void copyClassFile(Class<?> type, JarOutputStream out) throws IOException {
+        String name = type.getName().replace('.', '/') + ".class";
+        out.putNextEntry(new JarEntry(name));
+        try (InputStream in = type.getClassLoader().getResourceAsStream(name)) {
+            byte[] buffer = new byte[4096];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+        }
+    }
 }
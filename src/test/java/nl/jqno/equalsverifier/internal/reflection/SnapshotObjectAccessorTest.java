@@ -0,0 +1,102 @@
+package nl.jqno.equalsverifier.internal.reflection;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.lang.reflect.Field;
+import nl.jqno.equalsverifier.internal.prefabvalues.JavaApiPrefabValues;
+import nl.jqno.equalsverifier.internal.prefabvalues.PrefabValues;
+import nl.jqno.equalsverifier.internal.prefabvalues.TypeTag;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class SnapshotObjectAccessorTest {
+
+    private static final Object INITIAL_OBJECT = new Object();
+
+    private PrefabValues prefabValues;
+    private Lazy lazy;
+    private SnapshotObjectAccessor<Lazy> accessor;
+    private Field iField;
+    private Field oField;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        prefabValues = new PrefabValues(JavaApiPrefabValues.build());
+        lazy = new Lazy(42, INITIAL_OBJECT);
+        accessor = SnapshotObjectAccessor.of(ObjectAccessor.of(lazy));
+        iField = Lazy.class.getDeclaredField("i");
+        oField = Lazy.class.getDeclaredField("o");
+    }
+
+    @Test
+    public void modificationsReturnTheSameAccessor() {
+        assertSame(accessor, accessor.withChangedField(iField, prefabValues, TypeTag.NULL));
+        assertSame(accessor, accessor.withDefaultedField(oField));
+        assertSame(accessor, accessor.withFieldSetTo(oField, "something else"));
+    }
+
+    @Test
+    public void restoreRestoresChangedFields() {
+        accessor.withChangedField(iField, prefabValues, TypeTag.NULL);
+        accessor.withDefaultedField(oField);
+        assertNotEquals(42, lazy.i);
+        assertNull(lazy.o);
+
+        accessor.restore();
+        assertEquals(42, lazy.i);
+        assertSame(INITIAL_OBJECT, lazy.o);
+    }
+
+    @Test
+    public void restoreRestoresScrambledObject() {
+        accessor.scramble(prefabValues, TypeTag.NULL);
+        assertNotEquals(42, lazy.i);
+
+        accessor.restore();
+        assertEquals(42, lazy.i);
+        assertSame(INITIAL_OBJECT, lazy.o);
+    }
+
+    @Test
+    public void restoreRestoresFieldsThatWereChangedBehindItsBack() {
+        lazy.hashCode();
+        assertNotEquals(0, lazy.cachedHashCode);
+
+        accessor.restore();
+        assertEquals(0, lazy.cachedHashCode);
+    }
+
+    @Test
+    public void restoreCanBeCalledRepeatedly() {
+        accessor.withFieldSetTo(oField, "something else");
+        accessor.restore();
+        accessor.withChangedField(iField, prefabValues, TypeTag.NULL);
+        accessor.restore();
+
+        assertEquals(42, lazy.i);
+        assertSame(INITIAL_OBJECT, lazy.o);
+    }
+
+    static final class Lazy {
+
+        private final int i;
+        private Object o;
+        private int cachedHashCode;
+
+        Lazy(int i, Object o) {
+            this.i = i;
+            this.o = o;
+        }
+
+        @Override
+        public int hashCode() {
+            if (cachedHashCode == 0) {
+                cachedHashCode = 31 * i + 1;
+            }
+            return cachedHashCode;
+        }
+    }
+}
@@ -412,6 +412,84 @@ public class AnnotationCacheBuilderTest {
         build(sub);
     }
 
+    @Test
+    public void reflectiveFindsRuntimeAnnotations() {
+        useReflection();
+        build(AnnotatedWithRuntime.class, AnnotatedFields.class, AnnotatedTypes.class);
+
+        assertTypeHasAnnotation(AnnotatedWithRuntime.class, TYPE_RUNTIME_RETENTION);
+        assertFieldHasAnnotation(AnnotatedFields.class, RUNTIME_RETENTION, FIELD_RUNTIME_RETENTION);
+        assertFieldHasAnnotation(
+            AnnotatedTypes.class,
+            RUNTIME_RETENTION,
+            TYPEUSE_RUNTIME_RETENTION
+        );
+    }
+
+    @Test
+    public void reflectiveFallsBackToClassFiles_whenNoRuntimeAnnotationsAreFound() {
+        useReflection();
+        build(AnnotatedWithClass.class);
+
+        assertTypeHasAnnotation(AnnotatedWithClass.class, TYPE_CLASS_RETENTION);
+    }
+
+    @Test
+    public void reflectiveDoesNotFindClassAnnotations_whenRuntimeAnnotationsAreFound() {
+        useReflection();
+        build(AnnotatedWithBoth.class);
+
+        assertTypeHasAnnotation(AnnotatedWithBoth.class, TYPE_RUNTIME_RETENTION);
+        assertTypeDoesNotHaveAnnotation(AnnotatedWithBoth.class, TYPE_CLASS_RETENTION);
+    }
+
+    @Test
+    public void reflectiveFindsClassValues() {
+        AnnotationWithClassValuesAnnotation annotation = new AnnotationWithClassValuesAnnotation();
+        Annotation[] supportedAnnotations = { annotation };
+        AnnotationCacheBuilder acb = new AnnotationCacheBuilder(
+            supportedAnnotations,
+            NO_INGORED_ANNOTATIONS,
+            true
+        );
+        acb.build(AnnotationWithClassValuesContainer.class, cache);
+
+        assertTypeHasAnnotation(AnnotationWithClassValuesContainer.class, annotation);
+
+        Set<String> annotations = new HashSet<>(
+            annotation.properties.getArrayValues("annotations")
+        );
+        assertTrue(annotations.contains("javax.annotation.Nonnull"));
+        assertTrue(annotations.contains("nl.jqno.equalsverifier.testhelpers.annotations.NotNull"));
+    }
+
+    @Test
+    public void reflectiveFallsBackToClassFiles_whenReflectionFailsHalfway() {
+        Annotation[] supportedAnnotations = {
+            TYPE_RUNTIME_RETENTION,
+            TYPE_CLASS_RETENTION,
+            new FailsOnceAnnotation(),
+        };
+        AnnotationCacheBuilder acb = new AnnotationCacheBuilder(
+            supportedAnnotations,
+            NO_INGORED_ANNOTATIONS,
+            true
+        );
+        acb.build(AnnotatedWithBoth.class, cache);
+
+        assertTypeHasAnnotation(AnnotatedWithBoth.class, TYPE_RUNTIME_RETENTION);
+        assertTypeHasAnnotation(AnnotatedWithBoth.class, TYPE_CLASS_RETENTION);
+    }
+
+    private void useReflection() {
+        cacheBuilder =
+            new AnnotationCacheBuilder(
+                TestSupportedAnnotations.values(),
+                NO_INGORED_ANNOTATIONS,
+                true
+            );
+    }
+
     private void build(Class<?>... types) {
         for (Class<?> type : types) {
             cacheBuilder.build(type, cache);
@@ -465,6 +543,31 @@ public class AnnotationCacheBuilderTest {
         }
     }
 
+    private static class FailsOnceAnnotation implements Annotation {
+
+        private boolean failed = false;
+
+        @Override
+        public Set<String> partialClassNames() {
+            Set<String> result = new HashSet<>();
+            result.add("TypeAnnotationRuntimeRetention");
+            return result;
+        }
+
+        @Override
+        public boolean inherits() {
+            return false;
+        }
+
+        @Override
+        public void postProcess(Set<Class<?>> types, AnnotationCache annotationCache) {
+            if (!failed) {
+                failed = true;
+                throw new IllegalStateException("fails once");
+            }
+        }
+    }
+
     @AnnotationWithClassValues(annotations = { Nonnull.class, NotNull.class })
     private static class AnnotationWithClassValuesContainer {}
 }
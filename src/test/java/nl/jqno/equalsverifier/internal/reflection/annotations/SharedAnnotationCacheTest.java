@@ -0,0 +1,85 @@
+package nl.jqno.equalsverifier.internal.reflection.annotations;
+
+import static nl.jqno.equalsverifier.testhelpers.Util.coverThePrivateConstructor;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import javax.annotation.Nonnull;
+import org.junit.jupiter.api.Test;
+
+public class SharedAnnotationCacheTest {
+
+    private static final Set<String> NONE = Collections.emptySet();
+    private static final Set<String> IGNORE_NONNULL = Collections.singleton(
+        "javax.annotation.Nonnull"
+    );
+
+    @Test
+    public void coverTheConstructor() {
+        coverThePrivateConstructor(SharedAnnotationCache.class);
+    }
+
+    @Test
+    public void cacheIsBuiltOnlyOnce() {
+        assertSame(
+            SharedAnnotationCache.get(NonnullField.class, NONE, false),
+            SharedAnnotationCache.get(NonnullField.class, new HashSet<>(), false)
+        );
+    }
+
+    @Test
+    public void cacheDependsOnIgnoredAnnotations() {
+        AnnotationCache regular = SharedAnnotationCache.get(NonnullField.class, NONE, false);
+        AnnotationCache ignoring = SharedAnnotationCache.get(
+            NonnullField.class,
+            IGNORE_NONNULL,
+            false
+        );
+
+        assertNotSame(regular, ignoring);
+        assertTrue(
+            regular.hasFieldAnnotation(NonnullField.class, "field", SupportedAnnotations.NONNULL)
+        );
+        assertFalse(
+            ignoring.hasFieldAnnotation(NonnullField.class, "field", SupportedAnnotations.NONNULL)
+        );
+    }
+
+    @Test
+    public void cacheDependsOnReflectiveScanning() {
+        assertNotSame(
+            SharedAnnotationCache.get(NonnullField.class, NONE, false),
+            SharedAnnotationCache.get(NonnullField.class, NONE, true)
+        );
+    }
+
+    @Test
+    public void typePoolIsSharedPerClassLoader() {
+        ClassLoader cl = getClass().getClassLoader();
+        assertSame(SharedAnnotationCache.typePoolFor(cl), SharedAnnotationCache.typePoolFor(cl));
+    }
+
+    @Test
+    public void clearForgetsEverything() {
+        ClassLoader cl = getClass().getClassLoader();
+        AnnotationCache before = SharedAnnotationCache.get(NonnullField.class, NONE, false);
+        Object poolBefore = SharedAnnotationCache.typePoolFor(cl);
+
+        SharedAnnotationCache.clear();
+
+        assertNotSame(before, SharedAnnotationCache.get(NonnullField.class, NONE, false));
+        assertNotSame(poolBefore, SharedAnnotationCache.typePoolFor(cl));
+    }
+
+    @SuppressWarnings("unused")
+    static final class NonnullField {
+
+        @Nonnull
+        private Object field;
+    }
+}
@@ -30,6 +30,32 @@ public class AssertTest {
             .assertDescriptionContains("fail");
     }
 
+    @Test
+    public void assertEqualsIntSuccess() {
+        Assert.assertEquals(FAIL, 1, 1);
+    }
+
+    @Test
+    public void assertEqualsIntFailure() {
+        ExpectedException
+            .when(() -> Assert.assertEquals(FAIL, 1, 2))
+            .assertThrows(AssertionException.class)
+            .assertDescriptionContains("fail");
+    }
+
+    @Test
+    public void assertEqualsBooleanSuccess() {
+        Assert.assertEquals(FAIL, true, true);
+    }
+
+    @Test
+    public void assertEqualsBooleanFailure() {
+        ExpectedException
+            .when(() -> Assert.assertEquals(FAIL, true, false))
+            .assertThrows(AssertionException.class)
+            .assertDescriptionContains("fail");
+    }
+
     @Test
     public void assertFalseSuccess() {
         Assert.assertFalse(FAIL, false);
@@ -0,0 +1,61 @@
+package nl.jqno.equalsverifier.internal.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.AbstractCollection;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+
+public class ClassCacheTest {
+
+    @Test
+    public void computeOnce_forOwnClasses() {
+        AtomicInteger count = new AtomicInteger();
+        ClassCache<Object> cache = new ClassCache<>(type -> count.incrementAndGet());
+
+        Object first = cache.get(ClassCacheTest.class);
+        assertSame(first, cache.get(ClassCacheTest.class));
+        assertEquals(1, count.get());
+    }
+
+    @Test
+    public void computeOnce_forJdkClasses() {
+        AtomicInteger count = new AtomicInteger();
+        ClassCache<Object> cache = new ClassCache<>(type -> count.incrementAndGet());
+
+        Object first = cache.get(String.class);
+        assertSame(first, cache.get(String.class));
+        assertEquals(1, count.get());
+    }
+
+    @Test
+    public void computeRecursively_forJdkClasses() {
+        List<Class<?>> computed = new ArrayList<>();
+        AtomicReference<ClassCache<Integer>> depths = new AtomicReference<>();
+        depths.set(
+            new ClassCache<>(type -> {
+                computed.add(type);
+                Class<?> superclass = type.getSuperclass();
+                return superclass == null ? 0 : 1 + depths.get().get(superclass);
+            })
+        );
+
+        assertEquals(3, depths.get().get(ArrayList.class));
+        assertEquals(1, depths.get().get(AbstractCollection.class));
+        assertEquals(
+            Arrays.asList(
+                ArrayList.class,
+                AbstractList.class,
+                AbstractCollection.class,
+                Object.class
+            ),
+            computed
+        );
+    }
+}
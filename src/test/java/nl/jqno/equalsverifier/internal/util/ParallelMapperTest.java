@@ -0,0 +1,115 @@
+package nl.jqno.equalsverifier.internal.util;
+
+import static nl.jqno.equalsverifier.testhelpers.Util.coverThePrivateConstructor;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import nl.jqno.equalsverifier.testhelpers.ExpectedException;
+import org.junit.jupiter.api.Test;
+
+public class ParallelMapperTest {
+
+    private static final List<Integer> INPUT = Arrays.asList(50, 40, 30, 20, 10, 0);
+
+    @Test
+    public void coverTheConstructor() {
+        coverThePrivateConstructor(ParallelMapper.class);
+    }
+
+    @Test
+    public void resultsAreInOriginalOrder_whenSequential() {
+        List<String> actual = ParallelMapper.map(INPUT, this::sleepAndStringify, 1);
+        assertEquals(Arrays.asList("50", "40", "30", "20", "10", "0"), actual);
+    }
+
+    @Test
+    public void resultsAreInOriginalOrder_whenLaterElementsFinishFirst() {
+        List<String> actual = ParallelMapper.map(INPUT, this::sleepAndStringify, 4);
+        assertEquals(Arrays.asList("50", "40", "30", "20", "10", "0"), actual);
+    }
+
+    @Test
+    public void resultsAreInOriginalOrder_givenVirtualThreads() {
+        List<String> actual = ParallelMapper.map(
+            INPUT,
+            this::sleepAndStringify,
+            4,
+            Scheduler.virtualThreads()
+        );
+        assertEquals(Arrays.asList("50", "40", "30", "20", "10", "0"), actual);
+    }
+
+    @Test
+    public void noMoreThanParallelismElementsAreProcessedAtTheSameTime() {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        ParallelMapper.map(
+            INPUT,
+            i -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                String result = sleepAndStringify(i);
+                running.decrementAndGet();
+                return result;
+            },
+            2,
+            Scheduler.virtualThreads()
+        );
+        assertTrue(maxRunning.get() <= 2);
+    }
+
+    @Test
+    public void emptyListGivesEmptyResult() {
+        List<String> actual = ParallelMapper.map(
+            Collections.<Integer>emptyList(),
+            this::sleepAndStringify,
+            4
+        );
+        assertTrue(actual.isEmpty());
+    }
+
+    @Test
+    public void workIsNotDoneOnCallingThread() {
+        Set<Thread> threads = ConcurrentHashMap.newKeySet();
+        ParallelMapper.map(
+            INPUT,
+            i -> {
+                threads.add(Thread.currentThread());
+                return i;
+            },
+            2
+        );
+        assertFalse(threads.contains(Thread.currentThread()));
+    }
+
+    @Test
+    public void runtimeExceptionIsPropagated() {
+        ExpectedException
+            .when(() ->
+                ParallelMapper.map(
+                    INPUT,
+                    i -> {
+                        throw new IllegalArgumentException("element " + i);
+                    },
+                    3
+                )
+            )
+            .assertThrows(IllegalArgumentException.class)
+            .assertMessageContains("element 50");
+    }
+
+    private String sleepAndStringify(int millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return String.valueOf(millis);
+    }
+}
@@ -0,0 +1,61 @@
+package nl.jqno.equalsverifier.internal.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import org.junit.jupiter.api.Test;
+
+public class SchedulerTest {
+
+    @Test
+    public void platformThreadsAreNamedDaemonThreads() throws Exception {
+        Thread thread = runOn(Scheduler.platformThreads());
+        assertTrue(thread.isDaemon());
+        assertTrue(thread.getName().startsWith("EqualsVerifier-"));
+    }
+
+    @Test
+    public void ofPicksPlatformThreads() {
+        assertSame(Scheduler.platformThreads(), Scheduler.of(false));
+    }
+
+    @Test
+    public void ofPicksVirtualThreads() {
+        assertSame(Scheduler.virtualThreads(), Scheduler.of(true));
+    }
+
+    @Test
+    public void virtualThreadsFallBackToPlatformThreads_whenTheJvmDoesNotSupportThem() {
+        assumeFalse(jvmSupportsVirtualThreads());
+        assertSame(Scheduler.platformThreads(), Scheduler.virtualThreads());
+    }
+
+    @Test
+    public void virtualThreadsAreVirtual_whenTheJvmSupportsThem() throws Exception {
+        assumeTrue(jvmSupportsVirtualThreads());
+        Thread thread = runOn(Scheduler.virtualThreads());
+        assertEquals(true, Thread.class.getMethod("isVirtual").invoke(thread));
+    }
+
+    @Test
+    public void executorIsShared() {
+        assertSame(Scheduler.platformThreads().executor(), Scheduler.platformThreads().executor());
+        assertSame(Scheduler.virtualThreads().executor(), Scheduler.virtualThreads().executor());
+    }
+
+    private Thread runOn(Scheduler scheduler) throws Exception {
+        return scheduler.executor().submit(Thread::currentThread).get();
+    }
+
+    private boolean jvmSupportsVirtualThreads() {
+        try {
+            Thread.class.getMethod("ofVirtual").invoke(null);
+            return true;
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package nl.jqno.equalsverifier.internal.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+import nl.jqno.equalsverifier.VerificationStatistics;
+import org.junit.jupiter.api.Test;
+
+public class StatisticsCollectorTest {
+
+    @Test
+    public void countWhileCollecting() {
+        StatisticsCollector collector = StatisticsCollector.start(String.class);
+        assertTrue(StatisticsCollector.invokeEquals("a", "a"));
+        assertEquals("a".hashCode(), StatisticsCollector.invokeHashCode("a"));
+        StatisticsCollector.countObjectInstantiated();
+        StatisticsCollector.countDynamicSubclassGenerated();
+        StatisticsCollector.countPrefabTupleCreated();
+        StatisticsCollector.countPrefabTupleCreated();
+        VerificationStatistics actual = collector.finish();
+
+        assertEquals(1, actual.getEqualsInvocations());
+        assertEquals(1, actual.getHashCodeInvocations());
+        assertEquals(1, actual.getObjectsInstantiated());
+        assertEquals(1, actual.getDynamicSubclassesGenerated());
+        assertEquals(2, actual.getPrefabTuplesCreated());
+        assertTrue(actual.getWallTimeNanos() >= 0);
+    }
+
+    @Test
+    public void countOnlyInvocationsOnTheClassUnderTest() {
+        StatisticsCollector collector = StatisticsCollector.start(String.class);
+        assertTrue(StatisticsCollector.invokeEquals(1, 1));
+        assertEquals(1, StatisticsCollector.invokeHashCode(1));
+        VerificationStatistics actual = collector.finish();
+
+        assertEquals(0, actual.getEqualsInvocations());
+        assertEquals(0, actual.getHashCodeInvocations());
+    }
+
+    @Test
+    public void countNothing_whenNotCollecting() {
+        StatisticsCollector.invokeEquals("a", "a");
+        StatisticsCollector.countObjectInstantiated();
+
+        VerificationStatistics actual = StatisticsCollector.start(String.class).finish();
+        assertEquals(0, actual.getEqualsInvocations());
+        assertEquals(0, actual.getObjectsInstantiated());
+    }
+
+    @Test
+    public void countTowardsInnerCollector_whenNested() {
+        StatisticsCollector outer = StatisticsCollector.start(String.class);
+        StatisticsCollector.countObjectInstantiated();
+        StatisticsCollector inner = StatisticsCollector.start(String.class);
+        StatisticsCollector.countObjectInstantiated();
+        StatisticsCollector.countObjectInstantiated();
+
+        assertEquals(2, inner.finish().getObjectsInstantiated());
+        StatisticsCollector.countObjectInstantiated();
+        assertEquals(2, outer.finish().getObjectsInstantiated());
+    }
+
+    @Test
+    public void countOnWorkerThreads_whenFunctionIsPropagated() {
+        StatisticsCollector collector = StatisticsCollector.start(String.class);
+        Function<Integer, Integer> f = i -> {
+            StatisticsCollector.countObjectInstantiated();
+            return i;
+        };
+        List<Integer> items = Arrays.asList(1, 2, 3, 4, 5, 6, 7, 8);
+        ParallelMapper.map(items, f, 4);
+
+        assertEquals(8, collector.finish().getObjectsInstantiated());
+    }
+}
@@ -0,0 +1,21 @@
+package nl.jqno.equalsverifier.testhelpers.packages;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/** Records which classes in the {@code lazy} package have been initialized. */
+public final class Initializations {
+
+    private static final Set<Class<?>> INITIALIZED = ConcurrentHashMap.newKeySet();
+
+    /** Do not instantiate. */
+    private Initializations() {}
+
+    public static void record(Class<?> type) {
+        INITIALIZED.add(type);
+    }
+
+    public static int count() {
+        return INITIALIZED.size();
+    }
+}
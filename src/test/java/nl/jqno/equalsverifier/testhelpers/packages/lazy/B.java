@@ -0,0 +1,10 @@
+package nl.jqno.equalsverifier.testhelpers.packages.lazy;
+
+import nl.jqno.equalsverifier.testhelpers.packages.Initializations;
+
+public final class B {
+
+    static {
+        Initializations.record(B.class);
+    }
+}
@@ -0,0 +1,116 @@
+package nl.jqno.equalsverifier.internal.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import nl.jqno.equalsverifier.EqualsVerifier;
+import nl.jqno.equalsverifier.Warning;
+import nl.jqno.equalsverifier.testhelpers.types.FinalPoint;
+import nl.jqno.equalsverifier.testhelpers.types.Point;
+import nl.jqno.equalsverifier.testhelpers.types.PointContainer;
+import org.junit.jupiter.api.Test;
+
+public class JfrEventTypeTest {
+
+    private static final String PREFIX = "nl.jqno.equalsverifier.";
+
+    @Test
+    public void recordNothing_whenNoRecordingIsRunning() {
+        assertSame(JfrEvent.NOOP, JfrEventType.CLASS_VERIFICATION.begin());
+    }
+
+    @Test
+    public void recordEvents_whenRecordingIsRunning() throws Exception {
+        List<RecordedEvent> events = record(() ->
+            EqualsVerifier.forClass(FinalPoint.class).withReflectiveAnnotationScanning().verify()
+        );
+
+        Set<String> names = events
+            .stream()
+            .map(e -> e.getEventType().getName())
+            .collect(Collectors.toSet());
+        assertEquals(
+            Set.of(
+                PREFIX + "ClassVerification",
+                PREFIX + "Checker",
+                PREFIX + "PrefabCreation",
+                PREFIX + "AnnotationScan"
+            ),
+            names
+        );
+
+        RecordedEvent verification = only(events, "ClassVerification");
+        assertEquals(FinalPoint.class.getName(), verification.getString("type"));
+        assertTrue(
+            events
+                .stream()
+                .filter(e -> e.getEventType().getName().equals(PREFIX + "Checker"))
+                .anyMatch(e -> e.getString("checker").endsWith(".FieldsChecker"))
+        );
+        assertTrue(
+            events
+                .stream()
+                .filter(e -> e.getEventType().getName().equals(PREFIX + "AnnotationScan"))
+                .anyMatch(e -> e.getString("source").equals("reflection"))
+        );
+    }
+
+    @Test
+    public void recordTypeTagAndFactory_whenPrefabValuesAreCreated() throws Exception {
+        List<RecordedEvent> events = record(() ->
+            EqualsVerifier
+                .forClass(PointContainer.class)
+                .suppress(Warning.STRICT_INHERITANCE)
+                .verify()
+        );
+
+        assertTrue(
+            events
+                .stream()
+                .filter(e -> e.getEventType().getName().equals(PREFIX + "PrefabCreation"))
+                .anyMatch(e ->
+                    e.getString("typeTag").equals("Point") &&
+                    e.getString("factory").endsWith(".FallbackFactory")
+                )
+        );
+    }
+
+    private static List<RecordedEvent> record(Runnable action) throws Exception {
+        Path file = Files.createTempFile("equalsverifier", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(PREFIX + "ClassVerification");
+            recording.enable(PREFIX + "Checker");
+            recording.enable(PREFIX + "PrefabCreation");
+            recording.enable(PREFIX + "AnnotationScan");
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(file);
+            return RecordingFile
+                .readAllEvents(file)
+                .stream()
+                .filter(e -> e.getEventType().getName().startsWith(PREFIX))
+                .collect(Collectors.toList());
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    private static RecordedEvent only(List<RecordedEvent> events, String name) {
+        List<RecordedEvent> result = events
+            .stream()
+            .filter(e -> e.getEventType().getName().equals(PREFIX + name))
+            .collect(Collectors.toList());
+        assertEquals(1, result.size());
+        return result.get(0);
+    }
+}